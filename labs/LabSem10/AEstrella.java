@@ -0,0 +1,185 @@
+/**
+ * Busqueda A* de caminos minimos en grafos no orientados cuyos nodos
+ * tienen posicion en el plano, como el grafo que construye Paris.
+ *
+ * La heuristica es la distancia en linea recta de cada nodo al destino.
+ * Es admisible siempre que el costo de cada lado no sea menor que la
+ * distancia entre sus extremos, lo que se cumple cuando el costo es
+ * justamente esa distancia. Con heuristica cero la misma busqueda es
+ * el algoritmo de Dijkstra, que se ofrece para comparar.
+ *
+ * Las posiciones se guardan en dos arreglos de double y los lados del
+ * grafo se copian a arreglos compactos (inicio, destino, costo), de modo
+ * que la busqueda no crea objetos. Los arreglos de costos se reutilizan
+ * entre consultas con una marca de epoca.
+ *
+ * @author Adolfo Jeritson.
+ * @author Gianni Manilia.
+ */
+import java.util.Arrays;
+import java.util.LinkedList;
+
+public class AEstrella {
+    private final int V;
+    private final double[] x, y;        // posicion de cada nodo
+    private int[] inicio, destino;      // lista de adyacencias compacta
+    private double[] costo;             // costo del lado de cada posicion
+    private double[] distA;             // costo conocido desde la fuente
+    private int[] prev;                 // nodo anterior en el camino, -1 en la fuente
+    private int[] marca;                // marca[v] = epoca en que se toco v
+    private int   epoca = 0;
+    private int   s = -1;
+    private int   asentados;
+    private ColaPrioridadIndexada pq;
+
+    /**
+     * Prepara la busqueda sobre el grafo G con las posiciones dadas.
+     * Los arreglos de posiciones no se copian y no deben modificarse.
+     *
+     * @param G Grafo no orientado con costos no negativos.
+     * @param x Coordenada x de cada nodo.
+     * @param y Coordenada y de cada nodo.
+     *
+     * @throws IllegalArgumentException si falta la posicion de algun nodo
+     *         o existe un costo negativo.
+     */
+    public AEstrella(EdgeWeightedGraph G, double[] x, double[] y) {
+        V = G.V();
+        if (x.length != V || y.length != V)
+            throw new IllegalArgumentException("Debe haber una posicion por cada nodo");
+        this.x = x;
+        this.y = y;
+
+        // Cada lado aparece en la lista de sus dos extremos
+        inicio = new int[V + 1];
+        for (int v = 0; v < V; v++)
+            inicio[v + 1] = inicio[v] + G.degree(v);
+        destino = new int[inicio[V]];
+        costo = new double[inicio[V]];
+        for (int v = 0; v < V; v++) {
+            int k = inicio[v];
+            for (Edge e : G.adj(v)) {
+                if (e.weight() < 0)
+                    throw new IllegalArgumentException("No pueden haber lados con costos negativos");
+                destino[k] = e.other(v);
+                costo[k++] = e.weight();
+            }
+        }
+
+        distA = new double[V];
+        prev = new int[V];
+        marca = new int[V];
+        pq = new ColaPrioridadIndexada(V);
+    }
+
+    private void validateVertex(int v) {
+        if (v < 0 || v >= V)
+            throw new IndexOutOfBoundsException("vertex " + v + " is not between 0 and " + (V-1));
+    }
+
+    /**
+     * Calcula el costo del camino minimo de s a t con A*.
+     *
+     * @param s Nodo fuente.
+     * @param t Nodo destino.
+     *
+     * @return costo del camino, Double.POSITIVE_INFINITY si no existe.
+     */
+    public double buscar(int s, int t) {
+        return buscar(s, t, true);
+    }
+
+    /**
+     * Calcula el costo del camino minimo de s a t con Dijkstra, es decir,
+     * la misma busqueda sin heuristica, deteniendose al asentar t.
+     *
+     * @param s Nodo fuente.
+     * @param t Nodo destino.
+     *
+     * @return costo del camino, Double.POSITIVE_INFINITY si no existe.
+     */
+    public double dijkstra(int s, int t) {
+        return buscar(s, t, false);
+    }
+
+    private double buscar(int s, int t, boolean heuristica) {
+        validateVertex(s);
+        validateVertex(t);
+        epoca++;
+        if (epoca == 0) {
+            // Se agotaron las epocas, se limpian las marcas
+            Arrays.fill(marca, 0);
+            epoca = 1;
+        }
+        pq.clear();
+        this.s = s;
+        asentados = 0;
+        double xt = x[t], yt = y[t];
+
+        marca[s] = epoca;
+        distA[s] = 0.0;
+        prev[s] = -1;
+        pq.insert(s, 0.0);
+        while (!pq.isEmpty()) {
+            int v = pq.delMin();
+            asentados++;
+            if (v == t) break;
+            for (int k = inicio[v]; k < inicio[v + 1]; k++) {
+                int w = destino[k];
+                double alt = distA[v] + costo[k];
+                if (marca[w] == epoca && alt >= distA[w]) continue;
+                double h = heuristica ? Math.hypot(x[w] - xt, y[w] - yt) : 0.0;
+                distA[w] = alt;
+                prev[w] = v;
+                // Un nodo ya asentado vuelve a la cola si mejora, lo que
+                // protege contra errores de redondeo en la heuristica
+                if (marca[w] == epoca && pq.contains(w)) {
+                    pq.decreaseKey(w, alt + h);
+                } else {
+                    marca[w] = epoca;
+                    pq.insert(w, alt + h);
+                }
+            }
+        }
+        return distTo(t);
+    }
+
+    /**
+     * Retorna el costo conocido hasta v en la ultima busqueda. Solo es
+     * definitivo para el destino de la busqueda.
+     *
+     * @param v Nodo.
+     *
+     * @return costo, Double.POSITIVE_INFINITY si v no fue alcanzado.
+     */
+    public double distTo(int v) {
+        return (marca[v] == epoca) ? distA[v] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Retorna la cantidad de nodos asentados en la ultima busqueda.
+     *
+     * @return nodos asentados.
+     */
+    public int asentados() {
+        return asentados;
+    }
+
+    /**
+     * Retorna el camino encontrado hasta el destino v de la ultima
+     * busqueda.
+     *
+     * @param v Nodo destino.
+     *
+     * @return Lista con los nodos del camino, null si no hay camino.
+     */
+    public LinkedList<Integer> pathTo(int v) {
+        if (marca[v] != epoca) return null;
+        LinkedList<Integer> path = new LinkedList<Integer>();
+        int w;
+        for (w = v; w != s; w = prev[w])
+            path.push(w);
+        path.push(w);
+        return path;
+    }
+}
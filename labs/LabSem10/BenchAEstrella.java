@@ -0,0 +1,110 @@
+/**
+ * Cliente para comparar A* con Dijkstra en grafos geometricos aleatorios.
+ *
+ * Se generan n puntos al azar en el cuadrado unitario y se une cada par
+ * de puntos a distancia menor que un radio r, con costo igual a su
+ * distancia. El radio se elige para que cada nodo tenga en promedio el
+ * grado pedido, y los pares cercanos se buscan con una cuadricula de
+ * celdas de lado r. Luego se resuelven consultas aleatorias con ambas
+ * busquedas y se reportan el tiempo y los nodos asentados en promedio.
+ *
+ * Ejecucion: java BenchAEstrella <n> <grado> <consultas> [semilla]
+ *
+ * @author Adolfo Jeritson.
+ * @author Gianni Manilia.
+ */
+public class BenchAEstrella {
+    private static final int CALENTAMIENTO = 20;
+
+    public static void main(String[] args) {
+        int n = Integer.parseInt(args[0]);
+        double grado = Double.parseDouble(args[1]);
+        int consultas = Integer.parseInt(args[2]);
+        StdRandom.setSeed((args.length > 3) ? Long.parseLong(args[3]) : 1);
+
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = StdRandom.uniform();
+            y[i] = StdRandom.uniform();
+        }
+
+        // Cuadricula de celdas de lado r con los puntos de cada celda
+        double r = Math.sqrt(grado / (Math.PI * n));
+        int celdas = Math.max(1, (int) (1.0 / r));
+        int[] inicioCelda = new int[celdas * celdas + 1];
+        int[] celda = new int[n];
+        for (int i = 0; i < n; i++) {
+            int cx = Math.min(celdas - 1, (int) (x[i] * celdas));
+            int cy = Math.min(celdas - 1, (int) (y[i] * celdas));
+            celda[i] = cx * celdas + cy;
+            inicioCelda[celda[i] + 1]++;
+        }
+        for (int c = 0; c < celdas * celdas; c++)
+            inicioCelda[c + 1] += inicioCelda[c];
+        int[] puntos = new int[n];
+        int[] pos = new int[celdas * celdas];
+        for (int i = 0; i < n; i++)
+            puntos[inicioCelda[celda[i]] + pos[celda[i]]++] = i;
+
+        EdgeWeightedGraph G = new EdgeWeightedGraph(n);
+        for (int i = 0; i < n; i++) {
+            int cx = celda[i] / celdas, cy = celda[i] % celdas;
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    int ox = cx + dx, oy = cy + dy;
+                    if (ox < 0 || oy < 0 || ox >= celdas || oy >= celdas) continue;
+                    int c = ox * celdas + oy;
+                    for (int k = inicioCelda[c]; k < inicioCelda[c + 1]; k++) {
+                        int j = puntos[k];
+                        if (j <= i) continue;
+                        double d = Math.hypot(x[j] - x[i], y[j] - y[i]);
+                        if (d < r)
+                            G.addEdge(new Edge(i, j, d));
+                    }
+                }
+            }
+        }
+
+        AEstrella busqueda = new AEstrella(G, x, y);
+        for (int q = 0; q < CALENTAMIENTO; q++) {
+            int s = StdRandom.uniform(n), t = StdRandom.uniform(n);
+            busqueda.buscar(s, t);
+            busqueda.dijkstra(s, t);
+        }
+
+        int[] fuentes = new int[consultas];
+        int[] destinos = new int[consultas];
+        for (int q = 0; q < consultas; q++) {
+            fuentes[q] = StdRandom.uniform(n);
+            destinos[q] = StdRandom.uniform(n);
+        }
+        double[] esperado = new double[consultas];
+
+        long asentados = 0;
+        long inicio = System.nanoTime();
+        for (int q = 0; q < consultas; q++) {
+            esperado[q] = busqueda.dijkstra(fuentes[q], destinos[q]);
+            asentados += busqueda.asentados();
+        }
+        double tDijkstra = (System.nanoTime() - inicio) / 1e6 / consultas;
+        double aDijkstra = (double) asentados / consultas;
+
+        asentados = 0;
+        int distintos = 0;
+        inicio = System.nanoTime();
+        for (int q = 0; q < consultas; q++) {
+            double c = busqueda.buscar(fuentes[q], destinos[q]);
+            if (c != esperado[q] && Math.abs(c - esperado[q]) > 1e-9) distintos++;
+            asentados += busqueda.asentados();
+        }
+        double tAEstrella = (System.nanoTime() - inicio) / 1e6 / consultas;
+        double aAEstrella = (double) asentados / consultas;
+
+        StdOut.println(String.format("n=%d E=%d grado medio=%.1f consultas=%d",
+            n, G.E(), 2.0 * G.E() / n, consultas));
+        StdOut.println(String.format("  Dijkstra: %8.3f ms %12.1f asentados", tDijkstra, aDijkstra));
+        StdOut.println(String.format("  A*:       %8.3f ms %12.1f asentados", tAEstrella, aAEstrella));
+        StdOut.println(String.format("  Costos distintos: %d", distintos));
+    }
+}
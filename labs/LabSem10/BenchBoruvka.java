@@ -0,0 +1,42 @@
+/**
+ * Cliente para medir el algoritmo de Borůvka con distintas cantidades
+ * de hilos sobre un grafo aleatorio de V nodos y E lados generado con
+ * EdgeWeightedGraph(V, E). El costo se compara con el de Kruskal.
+ *
+ * Ejecucion: java BenchBoruvka <V> <E> [hilos...]
+ *
+ * @author Adolfo Jeritson.
+ * @author Gianni Manilia.
+ */
+public class BenchBoruvka {
+
+    public static void main(String[] args) {
+        int V = Integer.parseInt(args[0]);
+        int E = Integer.parseInt(args[1]);
+        int[] hilos = {1, 2, 4, 8, 16, 32};
+        if (args.length > 2) {
+            hilos = new int[args.length - 2];
+            for (int i = 2; i < args.length; i++)
+                hilos[i - 2] = Integer.parseInt(args[i]);
+        }
+        StdRandom.setSeed(1);
+        EdgeWeightedGraph G = new EdgeWeightedGraph(V, E);
+
+        long inicio = System.nanoTime();
+        Kruskal kruskal = new Kruskal(G, true);
+        double tKruskal = (System.nanoTime() - inicio) / 1e6;
+
+        StdOut.println(String.format("V=%d E=%d, %d procesadores", V, E,
+            Runtime.getRuntime().availableProcessors()));
+        StdOut.println(String.format("  Kruskal ordenado: %12.1f ms", tKruskal));
+        for (int h : hilos) {
+            inicio = System.nanoTime();
+            Boruvka boruvka = new Boruvka(G, h);
+            double t = (System.nanoTime() - inicio) / 1e6;
+            boolean igual = Math.abs(kruskal.weight() - boruvka.weight()) < 1e-6
+                && kruskal.getEdgesMST().size() == boruvka.getEdgesMST().size();
+            StdOut.println(String.format("  Boruvka, %2d hilos: %11.1f ms  (%d rondas, mismo costo: %B)",
+                h, t, boruvka.rondas(), igual));
+        }
+    }
+}
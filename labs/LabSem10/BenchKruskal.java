@@ -0,0 +1,36 @@
+/**
+ * Cliente para comparar los dos modos de Kruskal sobre grafos
+ * aleatorios de V nodos y E lados generados con EdgeWeightedGraph(V, E):
+ * la cola de prioridad de lados y el ordenamiento de arreglos
+ * primitivos con parada temprana.
+ *
+ * Ejecucion: java BenchKruskal <V> <E> [semilla]
+ *
+ * @author Adolfo Jeritson.
+ * @author Gianni Manilia.
+ */
+public class BenchKruskal {
+
+    public static void main(String[] args) {
+        int V = Integer.parseInt(args[0]);
+        int E = Integer.parseInt(args[1]);
+        StdRandom.setSeed((args.length > 2) ? Long.parseLong(args[2]) : 1);
+        EdgeWeightedGraph G = new EdgeWeightedGraph(V, E);
+
+        long inicio = System.nanoTime();
+        Kruskal cola = new Kruskal(G, false);
+        double tCola = (System.nanoTime() - inicio) / 1e6;
+
+        inicio = System.nanoTime();
+        Kruskal ordenado = new Kruskal(G, true);
+        double tOrdenado = (System.nanoTime() - inicio) / 1e6;
+
+        StdOut.println(String.format("V=%d E=%d", V, E));
+        StdOut.println(String.format("  Cola de prioridad: %10.1f ms", tCola));
+        StdOut.println(String.format("  Arreglos ordenados: %9.1f ms", tOrdenado));
+        StdOut.println(String.format("  Lados: %d, costo: %.2f", ordenado.getEdgesMST().size(), ordenado.weight()));
+        StdOut.println(String.format("  Mismo costo: %B",
+            Math.abs(cola.weight() - ordenado.weight()) < 1e-6
+            && cola.getEdgesMST().size() == ordenado.getEdgesMST().size()));
+    }
+}
@@ -0,0 +1,205 @@
+/**
+ * Implementación del algoritmo de Borůvka para obtener el arbol
+ * cobertor de costo mínimo de un grafo no orientado usando varios hilos.
+ *
+ * En cada ronda, cada componente escoge su lado mas barato hacia otra
+ * componente y se unen todas las componentes por esos lados. Los lados
+ * se reparten en bloques entre los hilos: cada hilo busca el lado mas
+ * barato de las componentes que tocan sus lados, guardandolo con
+ * compareAndSet, y descarta los lados que ya quedaron dentro de una
+ * componente. Luego las uniones tambien se hacen en paralelo con un
+ * DisjointSetForestConcurrente. Los empates se rompen por indice de
+ * lado, asi que los lados escogidos nunca forman ciclos y el resultado
+ * no depende de la cantidad de hilos. Hay a lo sumo log V rondas.
+ *
+ * @author Adolfo Jeritson.
+ * @author Gianni Manilia.
+ */
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class Boruvka {
+    private LinkedHashSet<Edge> ladosArbol;
+    private int rondas;
+
+    private final int V;
+    private Edge[]   lados;
+    private double[] costo;
+    private int[]    extremoV, extremoW;
+    private int[]    vivos;             // indices de lados entre componentes distintas
+    private int[]    inicioBloque, finBloque;
+    private AtomicIntegerArray masBarato;   // lado mas barato de cada raiz, -1 si no hay
+    private DisjointSetForestConcurrente forest;
+
+    /**
+     * Inicialización para el algoritmo de Borůvka.
+     *
+     * @param G         Grafo no orientado con costos a revisar.
+     * @param hilos     Cantidad de hilos a usar.
+     */
+    public Boruvka(EdgeWeightedGraph G, int hilos) {
+        if (hilos < 1)
+            throw new IllegalArgumentException("Debe haber al menos un hilo");
+        V = G.V();
+        int m = G.E();
+        lados = new Edge[m];
+        costo = new double[m];
+        extremoV = new int[m];
+        extremoW = new int[m];
+        vivos = new int[m];
+        int k = 0;
+        for (Edge e : G.edges()) {
+            lados[k] = e;
+            costo[k] = e.weight();
+            extremoV[k] = e.either();
+            extremoW[k] = e.other(extremoV[k]);
+            vivos[k] = k;
+            k++;
+        }
+
+        forest = new DisjointSetForestConcurrente(V);
+        for (int i = 0; i < V; i++)
+            forest.makeSet(i);
+        masBarato = new AtomicIntegerArray(V);
+        for (int i = 0; i < V; i++)
+            masBarato.set(i, -1);
+
+        // Cada hilo se queda con un bloque fijo de lados
+        inicioBloque = new int[hilos];
+        finBloque = new int[hilos];
+        for (int h = 0; h < hilos; h++) {
+            inicioBloque[h] = (int) ((long) k * h / hilos);
+            finBloque[h] = (int) ((long) k * (h + 1) / hilos);
+        }
+
+        ladosArbol = new LinkedHashSet<Edge>();
+        ExecutorService pool = Executors.newFixedThreadPool(hilos);
+        try {
+            ArrayList<Callable<Object>> buscar = new ArrayList<Callable<Object>>();
+            ArrayList<Callable<Object>> unir = new ArrayList<Callable<Object>>();
+            for (int h = 0; h < hilos; h++) {
+                final int bloque = h;
+                final int desde = (int) ((long) V * h / hilos);
+                final int hasta = (int) ((long) V * (h + 1) / hilos);
+                buscar.add(new Callable<Object>() {
+                    public Object call() {
+                        buscarMasBaratos(bloque);
+                        return null;
+                    }
+                });
+                unir.add(new Callable<Object>() {
+                    public Object call() {
+                        unirComponentes(desde, hasta);
+                        return null;
+                    }
+                });
+            }
+
+            while (ladosArbol.size() < V - 1) {
+                esperar(pool.invokeAll(buscar));
+                // Los lados escogidos, en orden de raiz; un lado escogido
+                // por sus dos componentes se añade una sola vez
+                int antes = ladosArbol.size();
+                for (int r = 0; r < V; r++) {
+                    int e = masBarato.get(r);
+                    if (e != -1)
+                        ladosArbol.add(lados[e]);
+                }
+                if (ladosArbol.size() == antes)
+                    break;      // no quedan lados entre componentes
+                esperar(pool.invokeAll(unir));
+                rondas++;
+            }
+        } catch (InterruptedException e) {
+            throw new RuntimeException("Borůvka interrumpido", e);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void esperar(java.util.List<Future<Object>> tareas) {
+        try {
+            for (Future<Object> t : tareas)
+                t.get();
+        } catch (Exception e) {
+            throw new RuntimeException("Error en Borůvka", e);
+        }
+    }
+
+    // true si el lado a es mas barato que el lado b
+    private boolean menor(int a, int b) {
+        if (costo[a] != costo[b]) return costo[a] < costo[b];
+        return a < b;
+    }
+
+    // Guarda el lado e como candidato de la raiz r si es mas barato
+    private void proponer(int r, int e) {
+        while (true) {
+            int actual = masBarato.get(r);
+            if (actual != -1 && !menor(e, actual)) return;
+            if (masBarato.compareAndSet(r, actual, e)) return;
+        }
+    }
+
+    // Recorre los lados del bloque, descartando los internos
+    private void buscarMasBaratos(int bloque) {
+        int escribir = inicioBloque[bloque];
+        for (int i = inicioBloque[bloque]; i < finBloque[bloque]; i++) {
+            int e = vivos[i];
+            int rv = forest.findSet(extremoV[e]);
+            int rw = forest.findSet(extremoW[e]);
+            if (rv == rw) continue;
+            vivos[escribir++] = e;
+            proponer(rv, e);
+            proponer(rw, e);
+        }
+        finBloque[bloque] = escribir;
+    }
+
+    // Une cada raiz del rango con la otra punta de su lado escogido
+    private void unirComponentes(int desde, int hasta) {
+        for (int r = desde; r < hasta; r++) {
+            int e = masBarato.get(r);
+            if (e == -1) continue;
+            masBarato.set(r, -1);
+            forest.unir(extremoV[e], extremoW[e]);
+        }
+    }
+
+    /**
+     * Retorna el conjunto de lados que forman parte del arbol minimo cobertor.
+     *
+     * @return Lista con los lados del arbol.
+     */
+    public LinkedHashSet<Edge> getEdgesMST() {
+        return ladosArbol;
+    }
+
+    /**
+     * Retorna la cantidad de rondas que hizo el algoritmo.
+     *
+     * @return cantidad de rondas.
+     */
+    public int rondas() {
+        return rondas;
+    }
+
+    /**
+    * Retorna la suma de los costos de los lados que forman parte del arbol
+    * minimo cobertor.
+    *
+    * @return Suma de los costos.
+    */
+    public double weight() {
+        double total = 0.0;
+        for (Edge e : ladosArbol) {
+            total = total + e.weight();
+        }
+        return total;
+    }
+}
@@ -20,6 +20,12 @@ public class DisjointSetForest {
         rank = new int[nNodos];
     }
 
+    /**
+     * Constructor para subclases que guardan el bosque de otra forma.
+     */
+    protected DisjointSetForest() {
+    }
+
     /**
      * Crea un conjunto dentro del bosque.
      * Dado un nodo, se crea un conjunto que solo lo contiene a él.
@@ -65,16 +71,20 @@ public class DisjointSetForest {
     /**
      * Encuentra al representante de un conjunto.
      * Dado un nodo, se busca cual es el nodo padre que representa al
-     * conjunto.
+     * conjunto. Se recorre iterativamente, haciendo que cada nodo del
+     * camino apunte a su abuelo (division a la mitad), para no depender
+     * de la pila de llamadas en cadenas largas.
      *
      * @param x     Nodo.
      * 
      * @return Nodo representante del conjunto.
      */
     public int findSet(int x) {
-        if (x != parent[x])
-            parent[x] = findSet(parent[x]);
-        return parent[x];
+        while (x != parent[x]) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
     }
 
     /**
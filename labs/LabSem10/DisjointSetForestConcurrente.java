@@ -0,0 +1,121 @@
+/**
+ * Disjoint-Set Forest que puede usarse desde varios hilos a la vez.
+ *
+ * Los padres se guardan en un AtomicIntegerArray. Una raiz solo se
+ * cuelga de otra con compareAndSet, de modo que si otro hilo la cambio
+ * primero se vuelve a buscar el representante. Se une la raiz de menor
+ * indice debajo de la de mayor indice, lo que evita ciclos sin necesidad
+ * de rangos. La busqueda hace division a la mitad; escribir el abuelo
+ * de un nodo es seguro aunque otro hilo lo cambie, porque sigue siendo
+ * un ancestro del nodo.
+ *
+ * @author Adolfo Jeritson.
+ * @author Gianni Manilia.
+ */
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class DisjointSetForestConcurrente extends DisjointSetForest {
+    private AtomicIntegerArray parent;
+
+    /**
+     * Construye un bosque vacio inicial.
+     *
+     * @param nNodos    Cantidad de nodos.
+     */
+    public DisjointSetForestConcurrente(int nNodos) {
+        parent = new AtomicIntegerArray(nNodos);
+    }
+
+    /**
+     * Crea un conjunto dentro del bosque.
+     *
+     * @param x     Nodo.
+     */
+    @Override
+    public void makeSet(int x) {
+        parent.set(x, x);
+    }
+
+    /**
+     * Encuentra al representante de un conjunto.
+     *
+     * @param x     Nodo.
+     *
+     * @return Nodo representante del conjunto.
+     */
+    @Override
+    public int findSet(int x) {
+        int p = parent.get(x);
+        while (x != p) {
+            int abuelo = parent.get(p);
+            if (abuelo != p)
+                parent.compareAndSet(x, p, abuelo);
+            x = p;
+            p = parent.get(x);
+        }
+        return x;
+    }
+
+    /**
+     * Une dos conjuntos.
+     *
+     * @param x     Nodo.
+     * @param y     Nodo.
+     */
+    @Override
+    public void union(int x, int y) {
+        unir(x, y);
+    }
+
+    /**
+     * Une dos conjuntos si son distintos.
+     *
+     * @param x     Nodo.
+     * @param y     Nodo.
+     *
+     * @return true si este llamado unio los conjuntos, false si ya
+     *          estaban unidos.
+     */
+    public boolean unir(int x, int y) {
+        while (true) {
+            int rx = findSet(x);
+            int ry = findSet(y);
+            if (rx == ry) return false;
+            if (rx > ry) {
+                int t = rx; rx = ry; ry = t;
+            }
+            if (parent.compareAndSet(rx, rx, ry))
+                return true;
+        }
+    }
+
+    /**
+     * Une dos conjuntos dados por sus representantes.
+     *
+     * @param x     Representante.
+     * @param y     Representante.
+     */
+    @Override
+    public void link(int x, int y) {
+        unir(x, y);
+    }
+
+    /**
+     * Determina si dos nodos estan en conjuntos distintos.
+     *
+     * @param x     Nodo.
+     * @param y     Nodo.
+     *
+     * @return true si los nodos pertenecen a conjuntos distintos.
+     */
+    @Override
+    public boolean conjuntosDiferentes(int x, int y) {
+        while (true) {
+            int rx = findSet(x);
+            int ry = findSet(y);
+            if (rx == ry) return false;
+            // Si rx sigue siendo raiz, son distintos en este instante
+            if (parent.get(rx) == rx) return true;
+        }
+    }
+}
@@ -27,31 +27,56 @@ public class Kruskal {
     }
 
     /** 
-     * Inicialización para el algoritmo de Kruskal.
-     * Crea y llena una cola de prioridad con los lados ordenados 
-     * por costo. Luego se crean los conjuntos para el bosque.
-     *
-     * Sacamos de la cola la arista con menor costo, si no forma
-     * un ciclo, se añade a la lista y se unen los conjuntos 
-     * correspondientes.
+     * Inicialización para el algoritmo de Kruskal con la cola de
+     * prioridad de lados.
      *
      * @param G     Grafo no orientado con costos a revisar.
      */
     public Kruskal(EdgeWeightedGraph G) {
-        // Creamos y llenamos la cola ordenana de forma creciente
-        Comparator<Edge> comparator = new EdgeComparator();
-        PriorityQueue<Edge> pq = new PriorityQueue<Edge>(G.E(), comparator);
+        this(G, false);
+    }
+
+    /** 
+     * Inicialización para el algoritmo de Kruskal.
+     * Si ordenado es false, crea y llena una cola de prioridad con los
+     * lados ordenados por costo. Si es true, copia los costos de los
+     * lados a arreglos primitivos y los ordena con OrdenLados, sin
+     * crear objetos por lado. Ambos modos dan un arbol del mismo costo,
+     * pero entre lados de igual costo pueden escoger lados distintos.
+     *
+     * Tomamos los lados de menor a mayor costo, si no forman
+     * un ciclo, se añaden a la lista y se unen los conjuntos 
+     * correspondientes. Al completar V-1 lados el arbol esta listo
+     * y no se revisan los demas.
+     *
+     * @param G         Grafo no orientado con costos a revisar.
+     * @param ordenado  true para ordenar arreglos primitivos, false para
+     *                  usar la cola de prioridad.
+     */
+    public Kruskal(EdgeWeightedGraph G, boolean ordenado) {
         ladosArbol = new LinkedHashSet<Edge>();
-        for (Edge e : G.edges()) 
-            pq.add(e);
 
         // Creamos el bosque con un conjunto para cada nodo
         DisjointSetForest forest = new DisjointSetForest(G.V());
         for (int i = 0; i < G.V(); i++)
             forest.makeSet(i);
 
+        if (ordenado)
+            kruskalOrdenado(G, forest);
+        else
+            kruskalCola(G, forest);
+    }
+
+    // Algoritmo de Kruskal con una cola de prioridad de lados
+    private void kruskalCola(EdgeWeightedGraph G, DisjointSetForest forest) {
+        // Creamos y llenamos la cola ordenana de forma creciente
+        Comparator<Edge> comparator = new EdgeComparator();
+        PriorityQueue<Edge> pq = new PriorityQueue<Edge>(Math.max(1, G.E()), comparator);
+        for (Edge e : G.edges()) 
+            pq.add(e);
+
         // Algoritmmo de Kruskal
-        while (!pq.isEmpty()) {
+        while (!pq.isEmpty() && ladosArbol.size() < G.V() - 1) {
             // Tomamos la siguiente arista mas barata
             Edge e = pq.poll();
             // Si no forma ciclo con las ya añadidas
@@ -62,7 +87,34 @@ public class Kruskal {
                 forest.union(v, e.other(v));
             }
         }
-     }
+    }
+
+    // Algoritmo de Kruskal ordenando arreglos primitivos
+    private void kruskalOrdenado(EdgeWeightedGraph G, DisjointSetForest forest) {
+        int m = G.E();
+        Edge[]   lados = new Edge[m];
+        double[] costo = new double[m];
+        int[]    extremoV = new int[m], extremoW = new int[m];
+        int k = 0;
+        for (Edge e : G.edges()) {
+            lados[k] = e;
+            costo[k] = e.weight();
+            extremoV[k] = e.either();
+            extremoW[k] = e.other(extremoV[k]);
+            k++;
+        }
+        int[] orden = OrdenLados.porCosto(costo, k);
+
+        for (int i = 0; i < k && ladosArbol.size() < G.V() - 1; i++) {
+            int j = orden[i];
+            int x = forest.findSet(extremoV[j]);
+            int y = forest.findSet(extremoW[j]);
+            if (x != y) {
+                ladosArbol.add(lados[j]);
+                forest.link(x, y);
+            }
+        }
+    }
 
     /**
      * Retorna el conjunto de lados que forman parte del arbol minimo cobertor.
@@ -0,0 +1,63 @@
+/**
+ * Ordenamiento de lados por costo sobre arreglos primitivos.
+ *
+ * Cada costo se convierte en un long cuyo orden sin signo es el mismo
+ * que el de Double.compare, y se ordenan los indices de los lados por
+ * esa clave en base 2^16 (radix LSD); la clave se recalcula en cada
+ * pasada en lugar de guardarse. Como cada pasada es estable y los indices
+ * parten en orden, los lados de igual costo quedan por indice. Las
+ * pasadas en que todas las claves tienen el mismo digito se saltan, asi
+ * que el tiempo es lineal en la cantidad de lados.
+ *
+ * @author Adolfo Jeritson.
+ * @author Gianni Manilia.
+ */
+public class OrdenLados {
+
+    private OrdenLados() { }
+
+    /**
+     * Ordena los primeros m lados por costo creciente.
+     *
+     * @param costo  costo[k] = costo del lado k.
+     * @param m      Cantidad de lados.
+     *
+     * @return arreglo con los indices de los lados, de menor a mayor
+     *         costo; entre iguales, de menor a mayor indice.
+     */
+    public static int[] porCosto(double[] costo, int m) {
+        int[] orden = new int[m], ordenAux = new int[m];
+        // Cuenta de cada digito de la clave, para las 4 pasadas a la vez
+        int[][] cuenta = new int[4][1 << 16];
+        for (int k = 0; k < m; k++) {
+            orden[k] = k;
+            long c = clave(costo[k]);
+            for (int b = 0; b < 4; b++)
+                cuenta[b][(int) (c >>> (16 * b)) & 0xffff]++;
+        }
+
+        for (int b = 0; b < 4; b++) {
+            int[] pos = cuenta[b];
+            if (m == 0 || pos[(int) (clave(costo[0]) >>> (16 * b)) & 0xffff] == m)
+                continue;
+            for (int d = 0, suma = 0; d < pos.length; d++) {
+                int c = pos[d];
+                pos[d] = suma;
+                suma += c;
+            }
+            for (int k = 0; k < m; k++) {
+                int j = orden[k];
+                ordenAux[pos[(int) (clave(costo[j]) >>> (16 * b)) & 0xffff]++] = j;
+            }
+            int[] t = orden; orden = ordenAux; ordenAux = t;
+        }
+        return orden;
+    }
+
+    // Clave cuyo orden sin signo es el de Double.compare: en los negativos
+    // se invierten todos los bits, en los positivos solo el signo
+    private static long clave(double costo) {
+        long bits = Double.doubleToLongBits(costo);
+        return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+}
@@ -6,12 +6,12 @@
  * @author Adolfo Jeritson.
  * @author Gianni Manilia.
  */
-import java.util.LinkedList;
 import java.util.LinkedHashSet;
 import java.lang.Math;
 
 public class Paris {
     private EdgeWeightedGraph G;
+    private double[] x, y;      // posicion de cada nodo
 
     /**
      * Inicializa los datos para resolver el problema.
@@ -25,25 +25,18 @@ public class Paris {
         G = new EdgeWeightedGraph(nNodos);
 
         // Obtener posiciones de los nodos
-        LinkedList<LinkedList<Double>> posiciones = new LinkedList<LinkedList<Double>>();
+        x = new double[G.V()];
+        y = new double[G.V()];
         for (int i=0; i<G.V(); i++) {
-            LinkedList<Double> pos = new LinkedList<Double>();
-            pos.add(in.readDouble());
-            pos.add(in.readDouble());
-            posiciones.add(pos);
+            x[i] = in.readDouble();
+            y[i] = in.readDouble();
         }
 
         // Calcular costo de cada arco del grafo
         for (int j=0; j<G.V();  j++) {
             for (int k=0; k<G.V(); k++) {
                 if (j!=k) {
-                    Double dist;
-                    Double x2 = posiciones.get(k).get(0);
-                    Double y2 = posiciones.get(k).get(1);
-                    Double x1 = posiciones.get(j).get(0);
-                    Double y1 = posiciones.get(j).get(1);
-
-                    dist = Math.sqrt(Math.pow(x2-x1, 2)+Math.pow(y2-y1, 2));
+                    double dist = Math.sqrt(Math.pow(x[k]-x[j], 2)+Math.pow(y[k]-y[j], 2));
                     Edge e = new Edge(j, k, dist);
                     G.addEdge(e);
                 }
@@ -61,6 +54,33 @@ public class Paris {
         StdOut.println(String.format("%.2f", kruskal.weight()));
     }
 
+    /**
+     * Retorna el grafo construido con las distancias entre los nodos.
+     *
+     * @return Grafo de los faros.
+     */
+    public EdgeWeightedGraph getGrafo() {
+        return G;
+    }
+
+    /**
+     * Retorna la coordenada x de cada nodo.
+     *
+     * @return Arreglo con las coordenadas x.
+     */
+    public double[] getX() {
+        return x;
+    }
+
+    /**
+     * Retorna la coordenada y de cada nodo.
+     *
+     * @return Arreglo con las coordenadas y.
+     */
+    public double[] getY() {
+        return y;
+    }
+
     public static void main(String[] args) {
         In in = new In(args[0]);
         Paris paris = new Paris(in);
@@ -1,10 +1,20 @@
 /**
  * Algoritmo de Bellman para encontrar caminos de costo minimo.
  *
+ * Los nodos se procesan cuando ya se revisaron todos sus predecesores
+ * alcanzables desde la fuente. Para eso se usa una copia propia de los
+ * grados de entrada, contando solo los arcos entre nodos alcanzables, de
+ * modo que el grafo no se modifica y puede consultarse desde distintas
+ * fuentes sin volver a cargarlo. Los arreglos de trabajo se reutilizan
+ * en cada calculo.
+ *
  * @author Gianni Manilia
  * @author Adolfo Jeritson
  */
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class Bellman {
 	private final double INFINITO = Double.POSITIVE_INFINITY;
@@ -12,10 +22,15 @@ public class Bellman {
 	int s;
 	double costos[];
 	int apuntadores[];
+	private int grado[];		// grados de entrada entre nodos alcanzables
+	private int pila[];			// pila de nodos pendientes
+	private int marca[];		// marca[v] = epoca en que se alcanzo v
+	private int epoca = 0;
+	private boolean calculado = false;
 
-	/** 
+	/**
 	 * Inicialización para el algoritmo de Bellman.
-	 * 
+	 *
 	 * Se un arreglo de costos desde el nodo inicial
 	 * y un arreglo de apuntadores para saber cuáles son los
 	 * vértices anteriores
@@ -29,50 +44,100 @@ public class Bellman {
 		costos = new double[G.V()];
 		costos[s] = 0;
 		apuntadores = new int[G.V()];
+		grado = new int[G.V()];
+		pila = new int[G.V()];
+		marca = new int[G.V()];
 	}
 
-	/** 
-	 * Halla el costo del camino mínimo hasta el vértice final
+	/**
+	 * Calcula los caminos de costo mínimo desde el vértice s,
+	 * reutilizando los arreglos de trabajo.
 	 *
-	 * @param s 	Vértice final
+	 * @param s 	Vértice inicial
+	 *
+	 * @throws IllegalArgumentException si hay un ciclo alcanzable desde s.
 	 */
-	public double caminoCostoMinimo(int s) {
-		for (int v=0;v<G.V();v++) {
-			if (v!=this.s)
-				costos[v] = INFINITO;
+	public void calcular(int s) {
+		if (s < 0 || s >= G.V())
+			throw new IndexOutOfBoundsException("vertex " + s + " is not between 0 and " + (G.V()-1));
+		this.s = s;
+		epoca++;
+		if (epoca == 0) {
+			Arrays.fill(marca, 0);
+			epoca = 1;
 		}
-		// Vértice para manipular la pila
-		int n;
-		// Pila de vértices
-		Stack<Integer> T = new Stack<Integer>();
-		T.push(this.s);
+
+		// Se marcan los alcanzables desde s y se cuentan sus arcos de entrada
+		int tope = 0, alcanzados = 1;
+		boolean ciclo = false;
+		marca[s] = epoca;
+		grado[s] = 0;
+		pila[tope++] = s;
+		while (tope > 0) {
+			int n = pila[--tope];
+			for (DirectedEdge edge : G.adj(n)) {
+				int m = edge.to();
+				if (m == s) ciclo = true;
+				if (marca[m] != epoca) {
+					marca[m] = epoca;
+					grado[m] = 0;
+					pila[tope++] = m;
+					alcanzados++;
+				}
+				grado[m]++;
+			}
+		}
+		if (ciclo)
+			throw new IllegalArgumentException("El grafo tiene ciclos alcanzables desde la fuente");
+
+		Arrays.fill(costos, INFINITO);
+		costos[s] = 0;
+		apuntadores[s] = s;
+		int procesados = 0;
+		pila[tope++] = s;
 		// Mientras la pila no esté vacía
-		while(!T.isEmpty()) {
+		while (tope > 0) {
 			// Tomo un elemento de la pila
-			n = T.pop();
+			int n = pila[--tope];
+			procesados++;
 			// Para cada sucesor de n
-			for(DirectedEdge edge : G.adj(n)) {
-				G.indegree[edge.to()] -= 1;
-				if(G.indegree(edge.to())==0)
-					T.push(edge.to());
+			for (DirectedEdge edge : G.adj(n)) {
+				int m = edge.to();
 				// Si el costo a m es menor que el costo hasta n más el costo de n a m
-				if(costos[edge.to()]>costos[n]+edge.weight()) {
+				if (costos[m] > costos[n] + edge.weight()) {
 					// Guardar el costo del nuevo camino
-					costos[edge.to()]=costos[n]+edge.weight();
+					costos[m] = costos[n] + edge.weight();
 					// Guardar el vértice anterior
-					apuntadores[edge.to()] = n;
+					apuntadores[m] = n;
 				}
+				if (--grado[m] == 0)
+					pila[tope++] = m;
 			}
 		}
+		if (procesados < alcanzados)
+			throw new IllegalArgumentException("El grafo tiene ciclos alcanzables desde la fuente");
+		calculado = true;
+	}
+
+	/**
+	 * Halla el costo del camino mínimo hasta el vértice final
+	 *
+	 * @param s 	Vértice final
+	 */
+	public double caminoCostoMinimo(int s) {
+		if (!calculado)
+			calcular(this.s);
 		return costos[s];
 	}
 
-    /** 
+    /**
      * Halla el camino de costo mínimo hasta el vértice final
 	 *
      * @param v 	Vértice final
      */
 	public ArrayList<Integer> obtenerCaminoMimino(int v) {
+		if (!calculado)
+			calcular(this.s);
 		ArrayList<Integer> caminoMinimo = new ArrayList<>();
 		int actual = v;
 
@@ -85,12 +150,64 @@ public class Bellman {
 		return caminoMinimo;
 	}
 
-    /** 
+    /**
      * Chequea si existe un camino hasta el vértice final
 	 *
      * @param s 	Vértice final
      */
 	public boolean exitsteCaminoHasta (int s) {
+		if (!calculado)
+			calcular(this.s);
 		return (costos[s]!=INFINITO);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Calcula los costos mínimos desde varias fuentes sobre el mismo
+	 * grafo. Las fuentes se reparten en bloques entre los hilos, y cada
+	 * hilo reutiliza un mismo Bellman para todas las suyas.
+	 *
+	 * @param G 		Grafo de precedencia.
+	 * @param fuentes 	Vértices iniciales.
+	 * @param hilos 	Cantidad de hilos a usar.
+	 *
+	 * @return matriz donde la fila i tiene los costos desde fuentes[i].
+	 *
+	 * @throws IllegalArgumentException si hilos es menor que 1 o hay un
+	 *         ciclo alcanzable desde alguna fuente.
+	 */
+	public static double[][] costosDesde(final EdgeWeightedDigraph G, final int[] fuentes, int hilos) {
+		if (hilos < 1)
+			throw new IllegalArgumentException("Debe haber al menos un hilo");
+		final double[][] resultado = new double[fuentes.length][];
+		if (fuentes.length == 0) return resultado;
+
+		ExecutorService pool = Executors.newFixedThreadPool(hilos);
+		try {
+			ArrayList<Future<?>> tareas = new ArrayList<Future<?>>();
+			int tam = (fuentes.length + hilos - 1) / hilos;
+			for (int desde = 0; desde < fuentes.length; desde += tam) {
+				final int ini = desde, fin = Math.min(desde + tam, fuentes.length);
+				tareas.add(pool.submit(new Runnable() {
+					public void run() {
+						Bellman bellman = new Bellman(G, fuentes[ini]);
+						for (int i = ini; i < fin; i++) {
+							bellman.calcular(fuentes[i]);
+							resultado[i] = bellman.costos.clone();
+						}
+					}
+				}));
+			}
+			for (Future<?> t : tareas)
+				t.get();
+		} catch (java.util.concurrent.ExecutionException e) {
+			if (e.getCause() instanceof IllegalArgumentException)
+				throw (IllegalArgumentException) e.getCause();
+			throw new RuntimeException("Error calculando los costos", e.getCause());
+		} catch (InterruptedException e) {
+			throw new RuntimeException("Error calculando los costos", e);
+		} finally {
+			pool.shutdown();
+		}
+		return resultado;
+	}
+}
@@ -23,5 +23,11 @@ public class ClienteBellman {
 		}
 		System.out.println("");
 		StdOut.println("¿Hay un camino? "+bellman.exitsteCaminoHasta(7));
+
+		// El mismo grafo se consulta desde otras fuentes
+		int[] fuentes = {0, 1, 2, 3, 4};
+		double[][] costos = Bellman.costosDesde(G, fuentes, 2);
+		for (int i = 0; i < fuentes.length; i++)
+			StdOut.println("Costo de "+fuentes[i]+" a 8: "+costos[i][8]);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+/**
+ * Cliente para realizar la prueba al algoritmo de Bellman-Ford.
+ * Si se indica un segundo archivo, se busca tambien un ciclo negativo
+ * en el grafo que contiene.
+ *
+ * @author Adolfo Jeritson.
+ * @author Gianni Manilia.
+ */
+import java.util.ArrayList;
+
+public class ClienteBellmanFord {
+
+	/**
+	 * Probar el algoritmo de Bellman-Ford.
+	 */
+	public static void main(String[] args) {
+		for (String archivo : args) {
+			In in = new In(archivo);
+			EdgeWeightedDigraph G = new EdgeWeightedDigraph(in);
+			BellmanFord bellman = new BellmanFord(G);
+			if (bellman.calcular(0)) {
+				StdOut.println("Costo del camino: "+bellman.caminoCostoMinimo(6));
+				StdOut.print("Camino: ");
+				ArrayList<Integer> caminoMinimo = bellman.obtenerCaminoMinimo(6);
+				for (int i = 0; i < caminoMinimo.size(); i++)
+					StdOut.print(caminoMinimo.get(i)+" ");
+				StdOut.println("");
+			} else {
+				StdOut.print("Ciclo negativo: ");
+				ArrayList<Integer> ciclo = bellman.cicloNegativo();
+				for (int i = 0; i < ciclo.size(); i++)
+					StdOut.print(ciclo.get(i)+" ");
+				StdOut.println("");
+				StdOut.println("Costo del ciclo: "+bellman.costoCiclo(ciclo));
+			}
+		}
+	}
+}
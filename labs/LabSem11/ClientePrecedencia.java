@@ -28,5 +28,11 @@ public class ClientePrecedencia {
         StdOut.println("Costo: ");
         StdOut.println(test.caminoCostoMinimo(6));
 
+        StdOut.println("Nodos del camino maximo: ");
+        for (int n : test.obtenerCaminoMaximo(6)) {
+            StdOut.println(n);
+        }
+        StdOut.println("Costo maximo: ");
+        StdOut.println(test.caminoCostoMaximo(6));
     }
 }
@@ -36,7 +36,7 @@ public class EdgeWeightedDigraph {
     private final int V;                // number of vertices in this digraph
     private int E;                      // number of edges in this digraph
     private Bag<DirectedEdge>[] adj;    // adj[v] = adjacency list for vertex v
-    public int[] indegree;             // indegree[v] = indegree of vertex v
+    private int[] indegree;             // indegree[v] = indegree of vertex v
     
     /**
      * Initializes an empty edge-weighted digraph with <tt>V</tt> vertices and 0 edges.
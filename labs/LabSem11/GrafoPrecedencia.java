@@ -2,40 +2,95 @@
  * Algoritmo para encontrar caminos de costo minimmo y maximo en
  * grafos de precedencia.
  *
+ * Se calcula un orden topologico con el algoritmo de Kahn, usando una
+ * copia propia de los grados de entrada, y se recorren los nodos en ese
+ * orden relajando sus arcos una sola vez. En el mismo recorrido se
+ * obtienen los costos minimos y maximos desde la fuente hasta todos los
+ * nodos, junto con el nodo anterior en cada camino, en tiempo O(V+E) y
+ * sin recursion.
+ *
  * @author Adolfo Jeritson
  * @author Gianni Manilia
  */
 import java.util.*;
 
 public class GrafoPrecedencia {
-    private boolean[]           visitado;
-    double[]            cmin, cmax;
-    private int[]               siguientemin, siguientemax;
-    private final double        INFINITO = Double.POSITIVE_INFINITY; 
-    private int                 fuente, destino;
-    private EdgeWeightedDigraph G;
+    double[]                    cmin, cmax;
+    private int[]               anteriormin, anteriormax;
+    private int[]               orden;      // nodos en orden topologico
+    private final double        INFINITO = Double.POSITIVE_INFINITY;
+    private int                 fuente;
 
-    /** 
-     *  Inicializacion para encontrar caminos de costo minimo.
+    /**
+     * Calcula los caminos de costo minimo y maximo desde s.
      *
      * @param G Grafo de precedencia.
      * @param s nodo fuente.
+     *
+     * @throws IllegalArgumentException si el grafo tiene ciclos.
      */
     public GrafoPrecedencia(EdgeWeightedDigraph G, int s) {
-        visitado = new boolean[G.V()];
-        cmin = new double[G.V()];
+        int V = G.V();
+        cmin = new double[V];
+        cmax = new double[V];
+        anteriormin = new int[V];
+        anteriormax = new int[V];
+        fuente = s;
 
-        for (int i = 0; i < G.V(); i++)
-            visitado[i] = false;
+        ordenTopologico(G);
 
-        for (int j = 0; j < G.V(); j++)
+        for (int j = 0; j < V; j++) {
             cmin[j] = INFINITO;
+            cmax[j] = INFINITO;
+            anteriormin[j] = -1;
+            anteriormax[j] = -1;
+        }
+        cmin[s] = 0;
+        cmax[s] = 0;
 
-        fuente = s; 
-        this.G = G; 
+        // Los nodos alcanzables para el minimo y el maximo son los mismos
+        for (int x : orden) {
+            if (cmin[x] == INFINITO) continue;
+            for (DirectedEdge e : G.adj(x)) {
+                int y = e.to();
+                if (cmin[y] > cmin[x] + e.weight()) {
+                    cmin[y] = cmin[x] + e.weight();
+                    anteriormin[y] = x;
+                }
+                if (cmax[y] == INFINITO || cmax[y] < cmax[x] + e.weight()) {
+                    cmax[y] = cmax[x] + e.weight();
+                    anteriormax[y] = x;
+                }
+            }
+        }
+    }
+
+    // Algoritmo de Kahn sin modificar los grados de entrada de G
+    private void ordenTopologico(EdgeWeightedDigraph G) {
+        int V = G.V();
+        int[] grado = new int[V];
+        for (int v = 0; v < V; v++)
+            grado[v] = G.indegree(v);
+
+        orden = new int[V];
+        int inicio = 0, fin = 0;
+        for (int v = 0; v < V; v++) {
+            if (grado[v] == 0)
+                orden[fin++] = v;
+        }
+        // orden[inicio..fin) funciona como la cola de nodos sin predecesores
+        while (inicio < fin) {
+            int x = orden[inicio++];
+            for (DirectedEdge e : G.adj(x)) {
+                if (--grado[e.to()] == 0)
+                    orden[fin++] = e.to();
+            }
+        }
+        if (fin < V)
+            throw new IllegalArgumentException("El grafo tiene ciclos");
     }
 
-    /** 
+    /**
      * Retorna el costo del camino hasta s.
      *
      * @param s Nodo destino.
@@ -54,58 +109,11 @@ public class GrafoPrecedencia {
      * @return Lista con los nodos del camino minimo.
      */
     public ArrayList<Integer> obtenerCaminoMinimo(int v) {
-        siguientemin = new int[G.V()];
-        destino = v;
-
-        for (int i = 0; i < G.V(); i++)
-            visitado[i] = false;
-
-        for (int j = 0; j < G.V(); j++)
-            cmin[j] = INFINITO;
-
-        bProfundidadMin(fuente);
-
-        reverse(cmin);
-
         if (!existeCaminoMinHasta(v)) return null;
-
-        ArrayList<Integer> caminomin = new ArrayList<Integer>();
-        
-        int x;
-        for (x = fuente; x != v; x = siguientemin[x])
-            caminomin.add(x);
-        caminomin.add(x);
-        
-        return caminomin; 
+        return camino(anteriormin, v);
     }
 
     /**
-     * Implementación de DFS para encontrar caminos de costo minimo en grafos de precedencia.
-     *
-     * @param x nodo a realizar DFS.
-     * @param t nodo destino.
-     */
-    public void bProfundidadMin(int x) {
-        visitado[x] = true;
-        if (x == destino) {
-                cmin[x] = 0;
-        } else {
-
-            for (DirectedEdge e : G.adj(x)) {
-                int y = e.to();
-                if (!visitado[y]) {
-                    bProfundidadMin(y);
-                }
-
-                if ((cmin[y] != INFINITO) && (cmin[x] > cmin[y] + e.weight())) {
-                    cmin[x] = cmin[y] + e.weight();
-                    siguientemin[x] = y;
-                }
-            }
-        }
-    }
-
-    /** 
      * Retorna el costo del camino maximo hasta s.
      *
      * @param s Nodo destino.
@@ -114,7 +122,6 @@ public class GrafoPrecedencia {
      */
     public double caminoCostoMaximo(int s) {
         return cmax[s];
-
     }
 
     /**
@@ -125,54 +132,19 @@ public class GrafoPrecedencia {
      * @return Lista con los nodos del camino maximo.
      */
     public ArrayList<Integer> obtenerCaminoMaximo(int v) {
-        siguientemax = new int[G.V()];
-
-        for (int i = 0; i < G.V(); i++)
-            visitado[i] = false;
-
-        for (int j = 0; j < G.V(); j++)
-            cmax[j] = INFINITO;
-
-        bProfundidadMax(fuente, v);
-
-        reverse(cmax);
-
         if (!existeCaminoMaxHasta(v)) return null;
-        ArrayList<Integer> caminomax = new ArrayList<Integer>();
-        int x;
-        for (x = v; cmax[x] != 0; x = siguientemax[x])
-            caminomax.add(x);
-        caminomax.add(x);
-        return caminomax;
-
+        return camino(anteriormax, v);
     }
 
-    /**
-     * Implementación de DFS para encontrar caminos de costo maximo en grafos de precedencia.
-     *
-     * @param x nodo a realizar DFS.
-     * @param t nodo destino.
-     */
-    public void bProfundidadMax(int x, int t) {
-        visitado[x] = true;
-        if (x == t)
-                cmax[x] = 0;
-        else {
-            for (DirectedEdge e : G.adj(x)) {
-                int sucesor = e.to();
-                if (!visitado[sucesor])
-                    bProfundidadMax(sucesor, t);
-            }
-
-            for (DirectedEdge e : G.adj(x)) {
-                int sucesor = e.to();
-                double camino = cmax[sucesor] + e.weight();
-                if (cmax[sucesor] != INFINITO && cmax[x] < camino) {
-                    cmax[x] = camino; 
-                    siguientemax[x] = sucesor;
-                }
-            }
-        }
+    // Reconstruye el camino de la fuente a v siguiendo los anteriores
+    private ArrayList<Integer> camino(int[] anterior, int v) {
+        ArrayList<Integer> camino = new ArrayList<Integer>();
+        int x;
+        for (x = v; x != fuente; x = anterior[x])
+            camino.add(x);
+        camino.add(x);
+        Collections.reverse(camino);
+        return camino;
     }
 
     /**
@@ -182,7 +154,7 @@ public class GrafoPrecedencia {
      * @return true si existe camino.
      */
     public boolean existeCaminoMinHasta(int s) {
-        return (cmin[s] != INFINITO); 
+        return (cmin[s] != INFINITO);
     }
 
     /**
@@ -192,28 +164,15 @@ public class GrafoPrecedencia {
      * @return true si existe camino.
      */
     public boolean existeCaminoMaxHasta(int s) {
-        return (cmax[s] != INFINITO); 
+        return (cmax[s] != INFINITO);
     }
 
     /**
-     * Revertir el orden de un arreglo.
+     * Retorna los nodos del grafo en orden topologico.
      *
-     * @param array arreglo a invertir
+     * @return arreglo con el orden topologico.
      */
-    public static void reverse(double[] array) {
-      if (array == null) {
-          return;
-      }
-      int i = 0;
-      int j = array.length - 1;
-      double tmp;
-      while (j > i) {
-          tmp = array[j];
-          array[j] = array[i];
-          array[i] = tmp;
-          j--;
-          i++;
-      }
-  }
-
-}
\ No newline at end of file
+    public int[] ordenTopologico() {
+        return orden.clone();
+    }
+}
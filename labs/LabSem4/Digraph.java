@@ -306,59 +306,24 @@ public class Digraph {
 	
     /**
      * Obtener la lista de componentes fuertemente conexas del grafo G
+     * usando el algoritmo de Tarjan, en tiempo proporcional a V + E.
      *
      * @return Lista de listas con las componentes conexas
      */
 	public HashSet<HashSet<Integer>> componentesConexas(){
-		// calcular matriz ady
-		int[][] mAdy = new int[V][V];
-		for (int i=0; i<V; i++){
-			for (int j=0; j<V; j++) {
-				if (containsEdge(i,j)) 
-					mAdy[i][j] = 1;
-				else
-					mAdy[i][j] = 0;
-				
-				// Suma boolena con matriz Identidad.
-                if (i==j)
-                    mAdy[i][j] = 1 | mAdy[i][j];
-			}
-		}
-		
-		 // Roy-Warshall
-        for (int k=0;k<V;k++) {
-            for (int i=0;i<V;i++) {
-                for (int j=0;j<V;j++) {
-                    mAdy[i][j] = mAdy[i][j] | (mAdy[i][k] & mAdy[k][j]);
-                }
-            }
-        }
-		
-		// algoritmo compco
-		ArrayList<Integer> resto = new ArrayList<Integer>();
+		ComponentesFuertes scc = new ComponentesFuertes(this);
+		ArrayList<ArrayList<Integer>> comps = scc.componentes();
 		HashSet<HashSet<Integer>> compCon = new HashSet<HashSet<Integer>>();
-		
-		for (int i=0;i<V;i++) {
-			resto.add(i);
-		}
-		
-		while (!resto.isEmpty()) {
-			HashSet<Integer> comp = new HashSet<Integer>();
-			int v = resto.get(0);
-			for (int w=0;w<V;w++) {
-				if (mAdy[v][w] == 1) 	
-					if (mAdy[w][v] == 1) 
-						comp.add(w);
+		// Se agregan en orden de su menor vertice, como antes
+		boolean[] agregada = new boolean[scc.count()];
+		for (int v=0;v<V;v++) {
+			if (!agregada[scc.id(v)]) {
+				agregada[scc.id(v)] = true;
+				compCon.add(new HashSet<Integer>(comps.get(scc.id(v))));
 			}
-			
-			compCon.add(comp);
-			resto.removeAll(comp);
 		}
 		return compCon;
-		
 	}
-	
-
 
     /**
      * Unit tests the <tt>Digraph</tt> data type.
@@ -314,6 +314,16 @@ public class AdjMatrixDigraph {
 		return grado;
 	}
 	
+    /**
+     * Obtener la matriz de alcance del grafo como conjuntos de bits, sin
+     * construir la matriz de enteros. Cada vertice se alcanza a si mismo.
+     *
+     * @return matriz de alcance por bits
+     */
+    public MatrizAlcanceBits alcance() {
+        return new MatrizAlcanceBits(this, true);
+    }
+
     /**
      * Obtener la matriz de alcance del grafo usando el algoritmo de
      * Roy-Warshall
@@ -321,32 +331,7 @@ public class AdjMatrixDigraph {
      * @return matriz de alcance
      */
     public int[][] matrizAlcance() {
-        // Llenar matriz de ady con 1 y 0
-        int[][] mAlcance = new int[V][V];
-        for (int i=0;i<V;i++) {
-            for (int j=0;j<V;j++) {
-                if (adj[i][j] != null) {
-                    mAlcance[i][j] = 1;
-                } else {
-                    mAlcance[i][j] = 0;
-                }
-
-                // Suma boolena con matriz Identidad.
-                if (i==j) {
-                    mAlcance[i][j] = 1 | mAlcance[i][j];
-                }
-            }
-        }
-
-        // Roy-Warshall
-        for (int k=0;k<V;k++) {
-            for (int i=0;i<V;i++) {
-                for (int j=0;j<V;j++) {
-                    mAlcance[i][j] = mAlcance[i][j] | (mAlcance[i][k] & mAlcance[k][j]);
-                }
-            }
-        }
-        return mAlcance;
+        return alcance().aMatriz();
     }
 
     /**
@@ -356,40 +341,17 @@ public class AdjMatrixDigraph {
      * @return Digrafo que representa la clausura transitivaS
      */
     public Digraph clausuraTransitiva() {
-        // Llenar matriz de ady con 1 y 0
-        Bag<Arc> conjLados = new Bag<Arc>();
-        int[][] mAdy = new int[V][V];
-        for (int i=0;i<V;i++) {
-            for (int j=0;j<V;j++) {
-                if (adj[i][j] != null) {
-                    mAdy[i][j] = 1;
-                } else {
-                    mAdy[i][j] = 0;
-                }
-            }
-        }
+        MatrizAlcanceBits clausura = new MatrizAlcanceBits(this, false);
 
-        // Algoritmo basado en Roy-Warshall
-        for (int k=0;k<V;k++) {
-            for (int i=0;i<V;i++) {
-                for (int j=0;j<V;j++) {
-                    mAdy[i][j] = mAdy[i][j] | (mAdy[i][k] & mAdy[k][j]);
-                }
-            }
-        }
-        
-        // Obtenemos los Arcos de la matriz de ady
-        for (int i=0;i<V;i++) {
-            for (int j=0;j<V;j++) {
-                if (mAdy[i][j] == 1)
-                    conjLados.add(new Arc(i,j));
+        // Se agregan los arcos en orden decreciente, el mismo en que
+        // salian antes del Bag de lados
+        Digraph grafoResultado = new Digraph(V);
+        for (int i = V-1; i >= 0; i--) {
+            for (int j = V-1; j >= 0; j--) {
+                if (clausura.alcanza(i, j))
+                    grafoResultado.addEdge(i, j);
             }
         }
-        
-        Digraph grafoResultado = new Digraph(V);
-        for (Arc lado : conjLados) {
-			grafoResultado.addEdge(lado.from(), lado.to());
-		}
 
         return grafoResultado;
     }
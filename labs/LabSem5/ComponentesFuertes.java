@@ -0,0 +1,204 @@
+/**
+ * Laboratorio de Algoritmos III
+ *
+ * Componentes fuertemente conexas de un digrafo con el algoritmo de
+ * Tarjan, y alcance entre vertices usando el grafo de componentes
+ * (condensacion).
+ *
+ * Tarjan numera las componentes en orden topologico inverso: si hay un
+ * arco de la componente a a la componente b, entonces b < a. Por eso el
+ * alcance de cada componente se calcula recorriendolas de 0 en adelante,
+ * haciendo el OR de las filas de bits de sus sucesoras, que ya estan
+ * listas. Todo toma tiempo proporcional a V + E, mas C*C/64 palabras
+ * para el alcance, donde C es el numero de componentes.
+ *
+ * El recorrido en profundidad es iterativo, con una pila explicita, para
+ * no desbordar la pila de llamadas en digrafos grandes.
+ *
+ * @author Adolfo Jeritson
+ * @author Gianni Manilia
+ */
+import java.util.ArrayList;
+
+public class ComponentesFuertes {
+    private final int V;
+    private int[] id;               // id[v] = componente de v
+    private int   count;            // numero de componentes
+    private int[] inicio, destino;  // lista de adyacencias compacta
+    private int   palabras;         // palabras long por fila de alcance
+    private long[] alcance;         // alcance[c*palabras + ...] = componentes alcanzables desde c
+
+    /**
+     * Calcula las componentes fuertemente conexas y el alcance entre ellas.
+     *
+     * @param G Digrafo.
+     */
+    public ComponentesFuertes(Digraph G) {
+        V = G.V();
+        compactar(G);
+        tarjan();
+        condensar();
+    }
+
+    // Copia las listas de adyacencias en dos arreglos de enteros
+    private void compactar(Digraph G) {
+        inicio = new int[V + 1];
+        for (int v = 0; v < V; v++)
+            inicio[v + 1] = inicio[v] + G.outdegree(v);
+        destino = new int[inicio[V]];
+        for (int v = 0; v < V; v++) {
+            int k = inicio[v];
+            for (int w : G.adj(v))
+                destino[k++] = w;
+        }
+    }
+
+    // Algoritmo de Tarjan con pila explicita
+    private void tarjan() {
+        id = new int[V];
+        int[] pre = new int[V];         // orden de descubrimiento, -1 si no visitado
+        int[] low = new int[V];
+        int[] siguiente = new int[V];   // proximo arco a revisar de cada vertice
+        int[] pilaDfs = new int[V];
+        int[] pilaComp = new int[V];
+        boolean[] enPila = new boolean[V];
+        int tope = 0, topeComp = 0, contador = 0;
+
+        for (int v = 0; v < V; v++)
+            pre[v] = -1;
+
+        for (int s = 0; s < V; s++) {
+            if (pre[s] != -1) continue;
+            pre[s] = low[s] = contador++;
+            siguiente[s] = inicio[s];
+            pilaDfs[tope++] = s;
+            pilaComp[topeComp++] = s;
+            enPila[s] = true;
+
+            while (tope > 0) {
+                int v = pilaDfs[tope - 1];
+                if (siguiente[v] < inicio[v + 1]) {
+                    int w = destino[siguiente[v]++];
+                    if (pre[w] == -1) {
+                        pre[w] = low[w] = contador++;
+                        siguiente[w] = inicio[w];
+                        pilaDfs[tope++] = w;
+                        pilaComp[topeComp++] = w;
+                        enPila[w] = true;
+                    } else if (enPila[w] && pre[w] < low[v]) {
+                        low[v] = pre[w];
+                    }
+                } else {
+                    // v termino, se cierra su componente si es raiz
+                    tope--;
+                    if (low[v] == pre[v]) {
+                        int w;
+                        do {
+                            w = pilaComp[--topeComp];
+                            enPila[w] = false;
+                            id[w] = count;
+                        } while (w != v);
+                        count++;
+                    }
+                    if (tope > 0) {
+                        int padre = pilaDfs[tope - 1];
+                        if (low[v] < low[padre])
+                            low[padre] = low[v];
+                    }
+                }
+            }
+        }
+    }
+
+    // Alcance entre componentes en orden topologico inverso
+    private void condensar() {
+        palabras = (count + 63) >>> 6;
+        alcance = new long[count * palabras];
+
+        // Vertices agrupados por componente
+        int[] inicioComp = new int[count + 1];
+        for (int v = 0; v < V; v++)
+            inicioComp[id[v] + 1]++;
+        for (int c = 0; c < count; c++)
+            inicioComp[c + 1] += inicioComp[c];
+        int[] miembros = new int[V];
+        int[] pos = new int[count];
+        for (int v = 0; v < V; v++)
+            miembros[inicioComp[id[v]] + pos[id[v]]++] = v;
+
+        for (int c = 0; c < count; c++) {
+            int filaC = c * palabras;
+            alcance[filaC + (c >>> 6)] |= 1L << (c & 63);
+            for (int m = inicioComp[c]; m < inicioComp[c + 1]; m++) {
+                int v = miembros[m];
+                for (int k = inicio[v]; k < inicio[v + 1]; k++) {
+                    int d = id[destino[k]];
+                    // d < c, su fila ya esta completa; se salta si ya esta incluida
+                    if (d != c && (alcance[filaC + (d >>> 6)] & (1L << (d & 63))) == 0) {
+                        int filaD = d * palabras;
+                        for (int p = 0; p < palabras; p++)
+                            alcance[filaC + p] |= alcance[filaD + p];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Retorna el numero de componentes fuertemente conexas.
+     *
+     * @return numero de componentes
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Retorna la componente a la que pertenece <tt>v</tt>.
+     *
+     * @param  v el vertice
+     * @return identificador de la componente, entre 0 y count()-1
+     */
+    public int id(int v) {
+        return id[v];
+    }
+
+    /**
+     * Indica si <tt>v</tt> y <tt>w</tt> estan en la misma componente.
+     *
+     * @param  v un vertice
+     * @param  w otro vertice
+     * @return true si son fuertemente conexos
+     */
+    public boolean stronglyConnected(int v, int w) {
+        return id[v] == id[w];
+    }
+
+    /**
+     * Indica si existe un camino de <tt>v</tt> a <tt>w</tt>. Todo vertice
+     * se alcanza a si mismo, igual que en la matriz de alcance.
+     *
+     * @param  v vertice origen
+     * @param  w vertice destino
+     * @return true si <tt>w</tt> es alcanzable desde <tt>v</tt>
+     */
+    public boolean alcanza(int v, int w) {
+        int c = id[v], d = id[w];
+        return (alcance[c * palabras + (d >>> 6)] & (1L << (d & 63))) != 0;
+    }
+
+    /**
+     * Retorna las componentes como listas de vertices.
+     *
+     * @return lista donde la posicion c tiene los vertices de la
+     *         componente c, en orden creciente
+     */
+    public ArrayList<ArrayList<Integer>> componentes() {
+        ArrayList<ArrayList<Integer>> comps = new ArrayList<ArrayList<Integer>>();
+        for (int c = 0; c < count; c++)
+            comps.add(new ArrayList<Integer>());
+        for (int v = 0; v < V; v++)
+            comps.get(id[v]).add(v);
+        return comps;
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Laboratorio de Algoritmos III
+ *
+ * Matriz de alcance de un digrafo guardada por filas como conjuntos de
+ * bits: la fila i ocupa palabras long consecutivas y el bit j de la fila
+ * indica si existe un camino de i a j.
+ *
+ * Se calcula con Roy-Warshall, pero en lugar de recorrer la fila j por
+ * j, cuando i alcanza a k se hace el OR de la fila k sobre la fila i de
+ * 64 en 64 columnas. Usa 1 bit por casilla en lugar de un int.
+ *
+ * @author Adolfo Jeritson
+ * @author Gianni Manilia
+ */
+public class MatrizAlcanceBits {
+    private final int V;
+    private final int palabras;     // palabras long por fila
+    private long[] bits;            // bits[i*palabras + (j >>> 6)] contiene (i,j)
+
+    /**
+     * Calcula la matriz de alcance del digrafo.
+     *
+     * @param G          Digrafo.
+     * @param reflexiva  true para sumar la matriz identidad (cada vertice
+     *                   se alcanza a si mismo), como en matrizAlcance;
+     *                   false para la clausura transitiva pura.
+     */
+    public MatrizAlcanceBits(AdjMatrixDigraph G, boolean reflexiva) {
+        V = G.V();
+        palabras = (V + 63) >>> 6;
+        bits = new long[V * palabras];
+
+        for (int v = 0; v < V; v++) {
+            for (Arc e : G.adj(v))
+                marcar(v, e.to());
+            if (reflexiva)
+                marcar(v, v);
+        }
+
+        // Roy-Warshall: si i alcanza k, i alcanza todo lo que alcanza k
+        for (int k = 0; k < V; k++) {
+            int filaK = k * palabras;
+            for (int i = 0; i < V; i++) {
+                if (alcanza(i, k)) {
+                    int filaI = i * palabras;
+                    for (int p = 0; p < palabras; p++)
+                        bits[filaI + p] |= bits[filaK + p];
+                }
+            }
+        }
+    }
+
+    // Marca la casilla (i,j)
+    private void marcar(int i, int j) {
+        bits[i * palabras + (j >>> 6)] |= 1L << (j & 63);
+    }
+
+    /**
+     * Retorna el numero de vertices.
+     *
+     * @return numero de vertices
+     */
+    public int V() {
+        return V;
+    }
+
+    /**
+     * Indica si existe un camino de <tt>v</tt> a <tt>w</tt>.
+     *
+     * @param  v vertice origen
+     * @param  w vertice destino
+     * @return true si <tt>w</tt> es alcanzable desde <tt>v</tt>
+     */
+    public boolean alcanza(int v, int w) {
+        return (bits[v * palabras + (w >>> 6)] & (1L << (w & 63))) != 0;
+    }
+
+    /**
+     * Cuenta los vertices alcanzables desde <tt>v</tt>.
+     *
+     * @param  v vertice origen
+     * @return cantidad de vertices alcanzables
+     */
+    public int cantidadAlcanzables(int v) {
+        int total = 0;
+        for (int p = 0; p < palabras; p++)
+            total += Long.bitCount(bits[v * palabras + p]);
+        return total;
+    }
+
+    /**
+     * Retorna la matriz de alcance como matriz de enteros 0 y 1.
+     *
+     * @return matriz de alcance
+     */
+    public int[][] aMatriz() {
+        int[][] m = new int[V][V];
+        for (int i = 0; i < V; i++) {
+            for (int j = 0; j < V; j++)
+                m[i][j] = alcanza(i, j) ? 1 : 0;
+        }
+        return m;
+    }
+}
@@ -0,0 +1,168 @@
+/**
+ * Laboratorio de Algoritmos III
+ *
+ * Cliente para medir el tiempo de Dijkstra sobre digrafos aleatorios.
+ * Se genera un digrafo con V vertices y E arcos de costo entre 1 y 100,
+ * se hacen algunas corridas de calentamiento y luego se promedia el
+ * tiempo de las busquedas desde fuentes aleatorias.
+ *
+ * Con la opcion -l se mide en cambio un lote de consultas (fuente,
+ * destino) aleatorias, creando un Dijkstra por consulta frente a
+ * MotorDijkstra.consultarLote con 1 y con <hilos> hilos.
+ *
+ * Con la opcion -p se comparan consultas de un vertice a otro: busqueda
+ * completa, busqueda que se detiene al asentar el destino y busqueda
+ * bidireccional, reportando tiempo y vertices asentados en promedio.
+ *
+ * Ejecucion: java BenchDijkstra <V> <E> <repeticiones> [semilla]
+ *            java BenchDijkstra -l <hilos> <V> <E> <consultas> <fuentes>
+ *            java BenchDijkstra -p <V> <E> <consultas>
+ *
+ * @author Adolfo Jeritson 12-10523
+ * @author Gianni Manilia  12-10903
+ */
+import java.util.Random;
+
+public class BenchDijkstra {
+    private static final int CALENTAMIENTO = 5;
+
+    /**
+     * Genera un digrafo aleatorio.
+     *
+     * @param V     numero de vertices.
+     * @param E     numero de arcos.
+     * @param rnd   generador de numeros aleatorios.
+     *
+     * @return digrafo generado.
+     */
+    public static Digraph digrafoAleatorio(int V, int E, Random rnd) {
+        Digraph G = new Digraph(V, E);
+        for (int i = 0; i < E; i++)
+            G.addEdge(rnd.nextInt(V), rnd.nextInt(V), 1 + rnd.nextInt(100));
+        return G;
+    }
+
+    /**
+     * Compara resolver un lote de consultas con un Dijkstra nuevo por
+     * consulta y con el motor reutilizable.
+     */
+    private static void lote(int hilos, int V, int E, int consultas, int nFuentes) {
+        Random rnd = new Random(1);
+        Digraph G = digrafoAleatorio(V, E, rnd);
+        int[] fuentes = new int[consultas];
+        int[] destinos = new int[consultas];
+        for (int i = 0; i < consultas; i++) {
+            fuentes[i] = rnd.nextInt(nFuentes);
+            destinos[i] = rnd.nextInt(V);
+        }
+
+        long inicio = System.nanoTime();
+        int[] esperado = new int[consultas];
+        for (int i = 0; i < consultas; i++) {
+            Dijkstra d = new Dijkstra(G, fuentes[i]);
+            esperado[i] = d.hasPathTo(destinos[i]) ? d.costs()[destinos[i]] : MotorDijkstra.INFINITO;
+        }
+        double tDijkstra = (System.nanoTime() - inicio) / 1e6;
+
+        inicio = System.nanoTime();
+        int[] uno = MotorDijkstra.consultarLote(G, fuentes, destinos, 1);
+        double tUno = (System.nanoTime() - inicio) / 1e6;
+
+        inicio = System.nanoTime();
+        int[] varios = MotorDijkstra.consultarLote(G, fuentes, destinos, hilos);
+        double tVarios = (System.nanoTime() - inicio) / 1e6;
+
+        StdOut.println(String.format("V=%d E=%d consultas=%d fuentes=%d", V, E, consultas, nFuentes));
+        StdOut.println(String.format("  Dijkstra por consulta: %10.1f ms", tDijkstra));
+        StdOut.println(String.format("  Motor, 1 hilo:         %10.1f ms", tUno));
+        StdOut.println(String.format("  Motor, %d hilos:        %10.1f ms", hilos, tVarios));
+        StdOut.println(String.format("  Mismos costos: %B",
+            java.util.Arrays.equals(esperado, uno) && java.util.Arrays.equals(esperado, varios)));
+    }
+
+    /**
+     * Compara las busquedas de un vertice a otro: completa, con parada
+     * temprana y bidireccional.
+     */
+    private static void puntoAPunto(int V, int E, int consultas) {
+        Random rnd = new Random(1);
+        Digraph G = digrafoAleatorio(V, E, rnd);
+        int[] fuentes = new int[consultas];
+        int[] destinos = new int[consultas];
+        for (int i = 0; i < consultas; i++) {
+            fuentes[i] = rnd.nextInt(V);
+            destinos[i] = rnd.nextInt(V);
+        }
+        MotorDijkstra motor = new MotorDijkstra(G);
+        DijkstraBidireccional bid = new DijkstraBidireccional(G);
+        int[] esperado = new int[consultas];
+        boolean iguales = true;
+
+        long asentados = 0;
+        long inicio = System.nanoTime();
+        for (int i = 0; i < consultas; i++) {
+            motor.buscar(fuentes[i]);
+            esperado[i] = motor.costo(destinos[i]);
+            asentados += motor.asentados();
+        }
+        double tCompleta = (System.nanoTime() - inicio) / 1e6 / consultas;
+        double aCompleta = (double) asentados / consultas;
+
+        asentados = 0;
+        inicio = System.nanoTime();
+        for (int i = 0; i < consultas; i++) {
+            iguales &= motor.buscar(fuentes[i], destinos[i]) == esperado[i];
+            asentados += motor.asentados();
+        }
+        double tTemprana = (System.nanoTime() - inicio) / 1e6 / consultas;
+        double aTemprana = (double) asentados / consultas;
+
+        asentados = 0;
+        inicio = System.nanoTime();
+        for (int i = 0; i < consultas; i++) {
+            iguales &= bid.buscar(fuentes[i], destinos[i]) == esperado[i];
+            asentados += bid.asentados();
+        }
+        double tBid = (System.nanoTime() - inicio) / 1e6 / consultas;
+        double aBid = (double) asentados / consultas;
+
+        StdOut.println(String.format("V=%d E=%d consultas=%d", V, E, consultas));
+        StdOut.println(String.format("  Completa:       %8.3f ms %12.1f asentados", tCompleta, aCompleta));
+        StdOut.println(String.format("  Parada en t:    %8.3f ms %12.1f asentados", tTemprana, aTemprana));
+        StdOut.println(String.format("  Bidireccional:  %8.3f ms %12.1f asentados", tBid, aBid));
+        StdOut.println(String.format("  Mismos costos: %B", iguales));
+    }
+
+    public static void main(String[] args) {
+        if (args[0].equals("-p")) {
+            puntoAPunto(Integer.parseInt(args[1]), Integer.parseInt(args[2]), Integer.parseInt(args[3]));
+            return;
+        }
+        if (args[0].equals("-l")) {
+            lote(Integer.parseInt(args[1]), Integer.parseInt(args[2]), Integer.parseInt(args[3]),
+                 Integer.parseInt(args[4]), Integer.parseInt(args[5]));
+            return;
+        }
+        int V = Integer.parseInt(args[0]);
+        int E = Integer.parseInt(args[1]);
+        int repeticiones = Integer.parseInt(args[2]);
+        long semilla = (args.length > 3) ? Long.parseLong(args[3]) : 1;
+        Random rnd = new Random(semilla);
+
+        Digraph G = digrafoAleatorio(V, E, rnd);
+        for (int r = 0; r < CALENTAMIENTO; r++)
+            new Dijkstra(G, rnd.nextInt(V));
+
+        long alcanzados = 0;
+        long inicio = System.nanoTime();
+        for (int r = 0; r < repeticiones; r++) {
+            Dijkstra d = new Dijkstra(G, rnd.nextInt(V));
+            for (int v = 0; v < V; v++)
+                if (d.hasPathTo(v)) alcanzados++;
+        }
+        double ms = (System.nanoTime() - inicio) / 1e6 / repeticiones;
+
+        StdOut.println(String.format("V=%d E=%d: %.2f ms por busqueda, %.0f vertices alcanzados en promedio",
+            V, E, ms, (double) alcanzados / repeticiones));
+    }
+}
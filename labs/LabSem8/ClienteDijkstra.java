@@ -32,11 +32,12 @@ public class ClienteDijkstra {
      * @param busqueda Objeto instanciado de clase Dijkstra.
      */
     public void printSol(Dijkstra busqueda) {
-        Integer[] costoA = busqueda.costs();
-        Integer[] prev = busqueda.arcsVisited();
+        int[] costoA = busqueda.costs();
+        int[] prev = busqueda.arcsVisited();
         for (int i = 0; i < G.V(); i++) {
             if (busqueda.hasPathTo(i)) {
-                StdOut.println(String.format("%d  %d  %d", i, costoA[i], prev[i]));
+                String anterior = (prev[i] == -1) ? "null" : String.valueOf(prev[i]);
+                StdOut.println(String.format("%d  %d  %s", i, costoA[i], anterior));
             } else {
                 StdOut.println(String.format("%d  NA", i));
             }
@@ -38,11 +38,12 @@ import java.util.*;
  *  iterate over all of the vertices adjacent from a given vertex.
  *  Parallel edges and self-loops are permitted.
  *  <p>
- *  This implementation uses an adjacency-lists representation, which 
- *  is a vertex-indexed array of {@link Bag} objects.
- *  All operations take constant time (in the worst case) except
- *  iterating over the vertices adjacent from a given vertex, which takes
- *  time proportional to the number of such vertices.
+ *  Esta implementacion guarda cada arco con su costo en arreglos de
+ *  enteros, en el orden en que se agregan. Para recorrer los arcos se
+ *  construye, la primera vez que hace falta, una representacion
+ *  compacta por filas (CSR): los arcos que salen de v estan en las
+ *  posiciones offsets[v] a offsets[v+1]-1 de targets y weights. Asi el
+ *  espacio es proporcional a V + E y no a V*V.
  *  <p>
  *  For additional documentation,
  *  see <a href="http://algs4.cs.princeton.edu/42digraph">Section 4.2</a> of
@@ -58,10 +59,10 @@ public class Digraph {
     private static final String NEWLINE = System.getProperty("line.separator");
     private final int V;           // number of vertices in this digraph
     private int E;                 // number of edges in this digraph
-    private LinkedList<Integer>[] adj;    // adj[v] = adjacency list for vertex v
     private int[] indegree;        // indegree[v] = indegree of vertex v
-    private int[][] costos;
-    private LinkedList<Arc> lados;
+    private int[] origen, destino, costo;   // arcos en orden de llegada
+    private int[] offsets, targets, weights; // CSR, null si hay que reconstruirla
+
     /**
      * Initializes an empty digraph with <em>V</em> vertices.
      *
@@ -69,16 +70,25 @@ public class Digraph {
      * @throws IllegalArgumentException if V < 0
      */
     public Digraph(int V) {
+        this(V, 4);
+    }
+
+    /**
+     * Initializes an empty digraph with <em>V</em> vertices and room
+     * for <em>E</em> edges before growing.
+     *
+     * @param  V the number of vertices
+     * @param  E the expected number of edges
+     * @throws IllegalArgumentException if V < 0
+     */
+    public Digraph(int V, int E) {
         if (V < 0) throw new IllegalArgumentException("Number of vertices in a Digraph must be nonnegative");
         this.V = V;
         this.E = 0;
-        costos = new int[V][V];
-        lados = new LinkedList<Arc>();
         indegree = new int[V];
-        adj = (LinkedList<Integer>[]) new LinkedList[V];
-        for (int v = 0; v < V; v++) {
-            adj[v] = new LinkedList<Integer>();
-        }
+        origen = new int[Math.max(E, 1)];
+        destino = new int[Math.max(E, 1)];
+        costo = new int[Math.max(E, 1)];
     }
 
     /**  
@@ -92,18 +102,13 @@ public class Digraph {
      * @throws IllegalArgumentException if the number of vertices or edges is negative
      */
     public Digraph(In in) {
+        this(leerEntero(in), leerEntero(in), in);
+    }
+
+    // Lee los E arcos de la entrada una vez conocidos V y E
+    private Digraph(int V, int E, In in) {
+        this(V, E);
         try {
-            this.V = in.readInt();
-            if (V < 0) throw new IllegalArgumentException("Number of vertices in a Digraph must be nonnegative");
-            indegree = new int[V];
-            costos = new int[V][V];
-            lados = new LinkedList<Arc>();
-            adj = (LinkedList<Integer>[]) new LinkedList[V];
-            for (int v = 0; v < V; v++) {
-                adj[v] = new LinkedList<Integer>();
-            }
-            int E = in.readInt();
-            if (E < 0) throw new IllegalArgumentException("Number of edges in a Digraph must be nonnegative");
             for (int i = 0; i < E; i++) {
                 int v = in.readInt();
                 int w = in.readInt();
@@ -116,26 +121,27 @@ public class Digraph {
         }
     }
 
+    // Lee un entero de la entrada para el constructor
+    private static int leerEntero(In in) {
+        try {
+            int n = in.readInt();
+            if (n < 0) throw new IllegalArgumentException("Number of vertices or edges in a Digraph must be nonnegative");
+            return n;
+        }
+        catch (NoSuchElementException e) {
+            throw new InputMismatchException("Invalid input format in Digraph constructor");
+        }
+    }
+
     /**
      * Initializes a new digraph that is a deep copy of the specified digraph.
      *
      * @param  G the digraph to copy
      */
     public Digraph(Digraph G) {
-        this(G.V());
-        this.E = G.E();
-        for (int v = 0; v < V; v++)
-            this.indegree[v] = G.indegree(v);
-        for (int v = 0; v < G.V(); v++) {
-            // reverse so that adjacency list is in same order as original
-            Stack<Integer> reverse = new Stack<Integer>();
-            for (int w : G.adj[v]) {
-                reverse.push(w);
-            }
-            for (int w : reverse) {
-                adj[v].add(w);
-            }
-        }
+        this(G.V(), G.E());
+        for (int k = 0; k < G.E(); k++)
+            addEdge(G.origen[k], G.destino[k], G.costo[k]);
     }
         
     /**
@@ -156,9 +162,26 @@ public class Digraph {
         return E;
     }
 
-    // Retorno el costo del lado correspondiente
+    /**
+     * Retorna el costo del arco v->w. Si hay arcos paralelos se toma el
+     * ultimo agregado; si no hay arco retorna 0. Toma tiempo proporcional
+     * al grado exterior de v; para recorrer arcos con su costo es mejor
+     * usar offsets(), targets() y weights().
+     *
+     * @param  v the tail vertex
+     * @param  w the head vertex
+     * @return costo del arco
+     */
     public int costo(int v, int w) {
-        return costos[v][w];
+        validateVertex(v);
+        validateVertex(w);
+        compactar();
+        int c = 0;
+        for (int k = offsets[v]; k < offsets[v+1]; k++) {
+            if (targets[k] == w)
+                c = weights[k];
+        }
+        return c;
     } 
 
     // throw an IndexOutOfBoundsException unless 0 <= v < V
@@ -177,12 +200,70 @@ public class Digraph {
     public void addEdge(int v, int w, int costo) {
         validateVertex(v);
         validateVertex(w);
-        Arc e = new Arc(v, w, costo);
-        lados.add(e);
-        adj[v].add(w);
+        if (E == origen.length) {
+            origen = Arrays.copyOf(origen, 2*E);
+            destino = Arrays.copyOf(destino, 2*E);
+            this.costo = Arrays.copyOf(this.costo, 2*E);
+        }
+        origen[E] = v;
+        destino[E] = w;
+        this.costo[E] = costo;
         indegree[w]++;
-        costos[v][w] = costo;
         E++;
+        offsets = null;
+    }
+
+    // Construye la representacion CSR si no esta al dia. Se ordenan los
+    // arcos por origen con conteo, respetando el orden de llegada.
+    private void compactar() {
+        if (offsets != null) return;
+        int[] off = new int[V+1];
+        for (int k = 0; k < E; k++)
+            off[origen[k]+1]++;
+        for (int v = 0; v < V; v++)
+            off[v+1] += off[v];
+        int[] pos = Arrays.copyOf(off, V);
+        targets = new int[E];
+        weights = new int[E];
+        for (int k = 0; k < E; k++) {
+            int i = pos[origen[k]]++;
+            targets[i] = destino[k];
+            weights[i] = costo[k];
+        }
+        offsets = off;
+    }
+
+    /**
+     * Retorna los indices de inicio de los arcos de cada vertice: los
+     * arcos que salen de v estan en las posiciones offsets()[v] hasta
+     * offsets()[v+1]-1 de targets() y weights(). Los arreglos no deben
+     * modificarse.
+     *
+     * @return arreglo de V+1 enteros
+     */
+    public int[] offsets() {
+        compactar();
+        return offsets;
+    }
+
+    /**
+     * Retorna el vertice destino de cada arco en el orden de offsets().
+     *
+     * @return arreglo de E enteros
+     */
+    public int[] targets() {
+        compactar();
+        return targets;
+    }
+
+    /**
+     * Retorna el costo de cada arco en el orden de offsets().
+     *
+     * @return arreglo de E enteros
+     */
+    public int[] weights() {
+        compactar();
+        return weights;
     }
 
     /**
@@ -193,8 +274,7 @@ public class Digraph {
      * @throws IndexOutOfBoundsException unless 0 <= v < V
      */
     public Iterable<Integer> adj(int v) {
-        validateVertex(v);
-        return adj[v];
+        return getListAdy(v);
     }
 
     /**
@@ -207,7 +287,8 @@ public class Digraph {
      */
     public int outdegree(int v) {
         validateVertex(v);
-        return adj[v].size();
+        compactar();
+        return offsets[v+1] - offsets[v];
     }
 
     /**
@@ -229,10 +310,11 @@ public class Digraph {
      * @return the reverse of the digraph
      */
     public Digraph reverse() {
-        Digraph R = new Digraph(V);
+        Digraph R = new Digraph(V, E);
+        compactar();
         for (int v = 0; v < V; v++) {
-            for (int w : adj(v)) {
-                R.addEdge(w, v, costos[w][v]);
+            for (int k = offsets[v]; k < offsets[v+1]; k++) {
+                R.addEdge(targets[k], v, weights[k]);
             }
         }
         return R;
@@ -248,9 +330,10 @@ public class Digraph {
         StringBuilder s = new StringBuilder();
         s.append(V+NEWLINE);
         s.append(E+NEWLINE);
+        compactar();
         for (int v = 0; v < V; v++) {
-            for (int w : adj[v]) {
-                s.append(String.format("%d %d %d\n", v,w, costos[v][w]));
+            for (int k = offsets[v]; k < offsets[v+1]; k++) {
+                s.append(String.format("%d %d %d\n", v, targets[k], weights[k]));
             }
             
         }
@@ -258,6 +341,9 @@ public class Digraph {
     }
     // Retorna una lista con todos los lados.
     public LinkedList<Arc> lados() {
+        LinkedList<Arc> lados = new LinkedList<Arc>();
+        for (int k = 0; k < E; k++)
+            lados.add(new Arc(origen[k], destino[k], costo[k]));
         return lados;
     }
     
@@ -279,14 +365,14 @@ public class Digraph {
      * @throws IndexOutOfBoundsException si algun vertice no pertenece al grafo
      */
 	public boolean containsEdge(int v, int w) {
-		boolean contains = false;
         validateVertex(v);
         validateVertex(w);
-		for (int item : adj[v]) {
-			if (item == w)
-				contains = true;
+        compactar();
+		for (int k = offsets[v]; k < offsets[v+1]; k++) {
+			if (targets[k] == w)
+				return true;
 		}
-		return contains;
+		return false;
 	}
 
     /**
@@ -298,7 +384,11 @@ public class Digraph {
      */
 	public LinkedList<Integer> getListAdy(int v) {
         validateVertex(v);
-        return adj[v];
+        compactar();
+        LinkedList<Integer> lista = new LinkedList<Integer>();
+        for (int k = offsets[v]; k < offsets[v+1]; k++)
+            lista.add(targets[k]);
+        return lista;
 	}
 	
     /**
@@ -310,10 +400,11 @@ public class Digraph {
      */
 	public LinkedList<Integer> getListPred(int v) {
 		validateVertex(v);
+		compactar();
 		LinkedList<Integer> bag = new LinkedList<Integer>();
 		for (int i=0;i<V;i++) {
-			for (int item : adj[i]) {
-				if (item == v)
+			for (int k = offsets[i]; k < offsets[i+1]; k++) {
+				if (targets[k] == v)
 					bag.add(i);
 			}
 		}
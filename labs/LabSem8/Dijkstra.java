@@ -13,84 +13,72 @@
  * @author Adolfo Jeritson 12-10523
  * @author Gianni Manilia  12-10903
  */
-import java.util.PriorityQueue;
-import java.util.Comparator;
 import java.util.LinkedList;
 
 public class Dijkstra {
-    private Integer[] costoA, prev;
-    private int       costoMax = 0;
-
-    /**
-     * Clase que implementa el comparador para la cola de prioridad.
-     */
-    private class PathComparator implements Comparator<Integer> {
-        private Integer[] costoA = costs();
-        @Override
-        public int compare(Integer v, Integer w) {
-            return (costoA[v] - costoA[w]);
-        }
-    }
+    private static final int INFINITO = Integer.MAX_VALUE;
+    private int[] costoA, prev;
+    private int   s;
 
     /**
      * Constructor para realizar la busqueda de costos mínimos.
      * Se revisan los lados del grafo para comprobar que no tenga
-     * caminos con costos negativos (falla el algoritmo) y se 
-     * calcula el costo máximo para usarlo como tope.
+     * caminos con costos negativos (falla el algoritmo).
      *
      * @throws IllegalArgumentException Si existe costo negativo.
      */
     public Dijkstra(Digraph G, int s) {
-        costoA = new Integer[G.V()];
-        prev = new Integer[G.V()];
+        costoA = new int[G.V()];
+        prev = new int[G.V()];
         // Revisamos que no hayan caminos con costo negativo
-        for (Arc e : G.lados()) {
-                costoMax = costoMax + e.costo();
-                if (e.costo() < 0) {
-                    throw new IllegalArgumentException("No pueden haber lados con costos negativos");
+        for (int c : G.weights()) {
+            if (c < 0) {
+                throw new IllegalArgumentException("No pueden haber lados con costos negativos");
             }
         }
-        // Definimos el costo maximo
-        costoMax++;
         caminosMinimo(G, s);
     }
 
     /**
      * Implementación del algoritmo de Dijkstra para costos mínimos.
-     * Se utiliza una cola de prioridad para optimizar el tiempo del
-     * algoritmo. Como costo máximo se utiliza la suma de todos los
-     * costos + 1.
+     * Se utiliza una cola de prioridad indexada por vertice, de forma
+     * que actualizar el costo de un vertice que ya esta en la cola
+     * (decreaseKey) toma O(log V). Los vertices no alcanzados quedan
+     * con costo Integer.MAX_VALUE.
      */
     public void caminosMinimo(Digraph G, int s) {
-        // Inicializar comparador y cola de prioridad
-        Comparator<Integer> comparator = new PathComparator();
-        PriorityQueue<Integer> pq = new PriorityQueue<Integer>(G.E(), comparator);
-        
-        // Inicializamos costos al maximo y añadimos a la cola
+        this.s = s;
+        ColaPrioridadIndexada pq = new ColaPrioridadIndexada(G.V());
+        // Arcos en formato compacto: los de v van de offsets[v] a offsets[v+1]-1
+        int[] offsets = G.offsets();
+        int[] targets = G.targets();
+        int[] weights = G.weights();
+
+        // Inicializamos costos al maximo
         for (int v = 0; v < G.V(); v++) {
-            if (v != s) {
-                costoA[v] = costoMax;
-                pq.add(v);
-            }
+            costoA[v] = INFINITO;
+            prev[v] = -1;
         }
 
         // Inicializar el costo del nodo inicial a 0 y añadimos
         costoA[s] = 0;
-        pq.add(s);
+        pq.insert(s, 0);
 
         while (!pq.isEmpty()) {
             // Sacamos el nodo con menor costo
-            int v = pq.poll();
+            int v = pq.delMin();
             // Revisamos los vecinos
-            for (int w : G.adj(v)) {
+            for (int k = offsets[v]; k < offsets[v+1]; k++) {
+                int w = targets[k];
                 // Costo de ruta alternativa
-                Integer alt = costoA[v] + G.costo(v, w);
+                int alt = costoA[v] + weights[k];
                 // Si el costo alternativo es menor, actualizamos al nuevo
                 if (alt < costoA[w]) {
                     costoA[w] = alt;
                     prev[w] = v;
                     // Actualizamos el valor del nodo en la cola
-                    pq.remove(w); pq.add(w);
+                    if (pq.contains(w)) pq.decreaseKey(w, alt);
+                    else                pq.insert(w, alt);
                 }
             }
         }
@@ -105,7 +93,7 @@ public class Dijkstra {
      *          false en caso contrario.
      */
     public boolean hasPathTo(int v) {
-        return costoA[v] < costoMax;
+        return costoA[v] < INFINITO;
     }
 
     /**
@@ -121,7 +109,7 @@ public class Dijkstra {
         if (!hasPathTo(v)) return null;
         LinkedList<Integer> path = new LinkedList<Integer>();
         int x;
-        for (x = v; costoA[x] != 0; x = prev[x])
+        for (x = v; x != s; x = prev[x])
             path.push(x);
         path.push(x);
         return path;
@@ -134,7 +122,7 @@ public class Dijkstra {
      *
      * @return Arreglo de enteros con los costos
      */
-    public Integer[] costs() {
+    public int[] costs() {
         return costoA;
     }
 
@@ -145,9 +133,9 @@ public class Dijkstra {
      * de los apuntadores es posible reconstruir el camino de costo 
      * mínimo a cada uno de los vértices.
      *
-     * @return Arreglo de enteros con los vertices
+     * @return Arreglo de enteros con los vertices, -1 si no tiene
      */
-    public Integer[] arcsVisited() {
+    public int[] arcsVisited() {
         return prev;
     }
 }
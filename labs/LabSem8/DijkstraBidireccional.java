@@ -0,0 +1,183 @@
+/**
+ * Laboratorio de Algoritmos III
+ *
+ * Dijkstra bidireccional para consultas de un vertice s a un vertice t.
+ *
+ * Se hace una busqueda hacia adelante desde s sobre el digrafo y otra
+ * hacia atras desde t sobre el digrafo inverso, asentando cada vez el
+ * vertice de menor costo entre las dos colas. Cada vez que se relaja un
+ * arco que toca un vertice ya alcanzado por la otra busqueda se tiene un
+ * camino de s a t, y se guarda el mejor costo encontrado (mu). La
+ * busqueda termina cuando la suma de los minimos de las dos colas no es
+ * menor que mu, porque ningun camino pendiente puede mejorarlo.
+ *
+ * Igual que MotorDijkstra, los arreglos se reutilizan entre consultas
+ * con marcas de epoca, de modo que cada consulta solo toca los vertices
+ * que asienta o alcanza.
+ *
+ * Dependencias: Digraph.java ColaPrioridadIndexada.java
+ *
+ * @author Adolfo Jeritson 12-10523
+ * @author Gianni Manilia  12-10903
+ */
+import java.util.Arrays;
+import java.util.LinkedList;
+
+public class DijkstraBidireccional {
+    public static final int INFINITO = Integer.MAX_VALUE;
+
+    private final int V;
+    private final int[][] offsets = new int[2][], targets = new int[2][], weights = new int[2][];
+    private final int[][] costoA = new int[2][], prev = new int[2][], marca = new int[2][];
+    private final ColaPrioridadIndexada[] pq = new ColaPrioridadIndexada[2];
+    private int  epoca = 0;
+    private long mu;                // mejor costo encontrado
+    private int  encuentroF = -1;   // ultimo vertice del mejor camino en la busqueda hacia adelante
+    private int  encuentroB = -1;   // primer vertice del mejor camino en la busqueda hacia atras
+    private int  asentados;
+
+    /**
+     * Crea el buscador para el digrafo dado. El digrafo no debe
+     * modificarse mientras se use el buscador.
+     *
+     * @param G Digrafo.
+     *
+     * @throws IllegalArgumentException Si existe costo negativo.
+     */
+    public DijkstraBidireccional(Digraph G) {
+        for (int c : G.weights()) {
+            if (c < 0)
+                throw new IllegalArgumentException("No pueden haber lados con costos negativos");
+        }
+        V = G.V();
+        Digraph R = G.reverse();
+        Digraph[] grafos = { G, R };
+        for (int d = 0; d < 2; d++) {
+            offsets[d] = grafos[d].offsets();
+            targets[d] = grafos[d].targets();
+            weights[d] = grafos[d].weights();
+            costoA[d] = new int[V];
+            prev[d] = new int[V];
+            marca[d] = new int[V];
+            pq[d] = new ColaPrioridadIndexada(V);
+        }
+    }
+
+    private void validateVertex(int v) {
+        if (v < 0 || v >= V)
+            throw new IndexOutOfBoundsException("vertex " + v + " is not between 0 and " + (V-1));
+    }
+
+    /**
+     * Calcula el costo del camino minimo de s a t.
+     *
+     * @param s Vertice fuente.
+     * @param t Vertice destino.
+     *
+     * @return costo del camino minimo, Integer.MAX_VALUE si no existe.
+     */
+    public int buscar(int s, int t) {
+        validateVertex(s);
+        validateVertex(t);
+        epoca++;
+        if (epoca == 0) {
+            // Se agotaron las epocas, se limpian las marcas
+            Arrays.fill(marca[0], 0);
+            Arrays.fill(marca[1], 0);
+            epoca = 1;
+        }
+        asentados = 0;
+        mu = INFINITO;
+        encuentroF = encuentroB = -1;
+        iniciar(0, s);
+        iniciar(1, t);
+        if (s == t) {
+            mu = 0;
+            encuentroF = encuentroB = s;
+            return 0;
+        }
+
+        while (!pq[0].isEmpty() && !pq[1].isEmpty()) {
+            long minF = pq[0].minKey(), minB = pq[1].minKey();
+            if (minF + minB >= mu) break;
+            int d = (minF <= minB) ? 0 : 1;
+            asentados++;
+            relajar(d, pq[d].delMin());
+        }
+        return (int) mu;
+    }
+
+    private void iniciar(int d, int v) {
+        pq[d].clear();
+        marca[d][v] = epoca;
+        costoA[d][v] = 0;
+        prev[d][v] = -1;
+        pq[d].insert(v, 0);
+    }
+
+    // Relaja los arcos que salen de v en la direccion d y actualiza mu
+    private void relajar(int d, int v) {
+        int[] off = offsets[d], tar = targets[d], pes = weights[d];
+        int[] costo = costoA[d], ant = prev[d], mar = marca[d];
+        int[] costoOtro = costoA[1 - d], marOtro = marca[1 - d];
+        for (int k = off[v]; k < off[v+1]; k++) {
+            int w = tar[k];
+            int alt = costo[v] + pes[k];
+            if (mar[w] != epoca) {
+                mar[w] = epoca;
+                costo[w] = alt;
+                ant[w] = v;
+                pq[d].insert(w, alt);
+            } else if (alt < costo[w]) {
+                costo[w] = alt;
+                ant[w] = v;
+                if (pq[d].contains(w)) pq[d].decreaseKey(w, alt);
+                else                   pq[d].insert(w, alt);
+            }
+            if (marOtro[w] == epoca && (long) alt + costoOtro[w] < mu) {
+                mu = (long) alt + costoOtro[w];
+                // El arco del encuentro va de encuentroF a encuentroB en G
+                encuentroF = (d == 0) ? v : w;
+                encuentroB = (d == 0) ? w : v;
+            }
+        }
+    }
+
+    /**
+     * Retorna la cantidad de vertices asentados entre las dos busquedas
+     * en la ultima consulta.
+     *
+     * @return vertices asentados.
+     */
+    public int asentados() {
+        return asentados;
+    }
+
+    /**
+     * Verifica que la ultima consulta encontro un camino.
+     *
+     * @return true si hay camino de s a t.
+     */
+    public boolean hayCamino() {
+        return mu != INFINITO;
+    }
+
+    /**
+     * Retorna el camino de costo minimo de la ultima consulta.
+     *
+     * @return Lista enlazada con el camino de s a t, null si no hay camino.
+     */
+    public LinkedList<Integer> getPath() {
+        if (!hayCamino()) return null;
+        LinkedList<Integer> path = new LinkedList<Integer>();
+        // Tramo hacia adelante: de encuentroF hacia s
+        for (int x = encuentroF; x != -1; x = prev[0][x])
+            path.push(x);
+        // Tramo hacia atras: prev[1] apunta al siguiente vertice hacia t
+        if (encuentroB != encuentroF) {
+            for (int x = encuentroB; x != -1; x = prev[1][x])
+                path.add(x);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,260 @@
+/**
+ * Laboratorio de Algoritmos III
+ *
+ * Motor de consultas de Dijkstra reutilizable sobre un mismo digrafo.
+ *
+ * A diferencia de la clase Dijkstra, los arreglos de costos y anteriores
+ * y la cola de prioridad se crean una sola vez y se reutilizan en cada
+ * busqueda. Para no tener que reiniciar los V costos antes de cada
+ * busqueda se usa una marca de epoca: cada busqueda incrementa la epoca,
+ * y el costo de un vertice solo es valido si su marca coincide con la
+ * epoca actual. Asi, cada busqueda solo toca los vertices que alcanza.
+ *
+ * Tambien ofrece un metodo para resolver un lote de consultas (fuente,
+ * destino) repartidas entre varios hilos, cada uno con su propio motor.
+ *
+ * Dependencias: Digraph.java ColaPrioridadIndexada.java
+ *
+ * @author Adolfo Jeritson 12-10523
+ * @author Gianni Manilia  12-10903
+ */
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.ArrayList;
+
+public class MotorDijkstra {
+    public static final int INFINITO = Integer.MAX_VALUE;
+
+    private final int V;
+    private final int[] offsets, targets, weights;
+    private int[] costoA, prev;
+    private int[] marca;            // marca[v] = epoca en que se toco v
+    private int   epoca = 0;
+    private int   s = -1;
+    private int   asentados;        // vertices sacados de la cola en la ultima busqueda
+    private ColaPrioridadIndexada pq;
+
+    /**
+     * Crea el motor para el digrafo dado. El digrafo no debe modificarse
+     * mientras se use el motor.
+     *
+     * @param G Digrafo.
+     *
+     * @throws IllegalArgumentException Si existe costo negativo.
+     */
+    public MotorDijkstra(Digraph G) {
+        for (int c : G.weights()) {
+            if (c < 0)
+                throw new IllegalArgumentException("No pueden haber lados con costos negativos");
+        }
+        V = G.V();
+        offsets = G.offsets();
+        targets = G.targets();
+        weights = G.weights();
+        costoA = new int[V];
+        prev = new int[V];
+        marca = new int[V];
+        pq = new ColaPrioridadIndexada(V);
+    }
+
+    // Comienza una nueva busqueda desde s
+    private void iniciar(int s) {
+        if (s < 0 || s >= V)
+            throw new IndexOutOfBoundsException("vertex " + s + " is not between 0 and " + (V-1));
+        epoca++;
+        if (epoca == 0) {
+            // Se agotaron las epocas, se limpian las marcas
+            Arrays.fill(marca, 0);
+            epoca = 1;
+        }
+        pq.clear();
+        this.s = s;
+        asentados = 0;
+        marca[s] = epoca;
+        costoA[s] = 0;
+        prev[s] = -1;
+        pq.insert(s, 0);
+    }
+
+    /**
+     * Calcula los caminos de costo minimo desde s a todos los vertices.
+     *
+     * @param s Vertice fuente.
+     */
+    public void buscar(int s) {
+        iniciar(s);
+        while (!pq.isEmpty()) {
+            asentados++;
+            relajar(pq.delMin());
+        }
+    }
+
+    /**
+     * Calcula el camino de costo minimo de s a t, deteniendose en cuanto
+     * t sale de la cola. Despues de esta busqueda solo son definitivos el
+     * costo y el camino hacia t; el resto de los costos pueden ser cotas.
+     *
+     * @param s Vertice fuente.
+     * @param t Vertice destino.
+     *
+     * @return costo del camino minimo, Integer.MAX_VALUE si no existe.
+     */
+    public int buscar(int s, int t) {
+        iniciar(s);
+        while (!pq.isEmpty()) {
+            int v = pq.delMin();
+            asentados++;
+            if (v == t) break;
+            relajar(v);
+        }
+        return costo(t);
+    }
+
+    /**
+     * Retorna la cantidad de vertices asentados (sacados de la cola) en
+     * la ultima busqueda.
+     *
+     * @return vertices asentados.
+     */
+    public int asentados() {
+        return asentados;
+    }
+
+    // Relaja los arcos que salen de v
+    private void relajar(int v) {
+        for (int k = offsets[v]; k < offsets[v+1]; k++) {
+            int w = targets[k];
+            int alt = costoA[v] + weights[k];
+            if (marca[w] != epoca) {
+                marca[w] = epoca;
+                costoA[w] = alt;
+                prev[w] = v;
+                pq.insert(w, alt);
+            } else if (alt < costoA[w]) {
+                costoA[w] = alt;
+                prev[w] = v;
+                if (pq.contains(w)) pq.decreaseKey(w, alt);
+                else                pq.insert(w, alt);
+            }
+        }
+    }
+
+    /**
+     * Retorna el costo del camino minimo desde la ultima fuente.
+     *
+     * @param v Vertice destino.
+     *
+     * @return costo, Integer.MAX_VALUE si no es alcanzable.
+     */
+    public int costo(int v) {
+        return (marca[v] == epoca) ? costoA[v] : INFINITO;
+    }
+
+    /**
+     * Verifica que se encontró un camino al vertice v.
+     *
+     * @param v Entero que representa al vertice.
+     *
+     * @return true si se encontró un camino,
+     *          false en caso contrario.
+     */
+    public boolean hasPathTo(int v) {
+        return marca[v] == epoca;
+    }
+
+    /**
+     * Retorna una lista con el camino encontrado al vertice v desde la
+     * ultima fuente.
+     *
+     * @param v Entero que representa al vertice.
+     *
+     * @return Lista enlazada con el camino, null si no hay camino.
+     */
+    public LinkedList<Integer> getPathTo(int v) {
+        if (!hasPathTo(v)) return null;
+        LinkedList<Integer> path = new LinkedList<Integer>();
+        int x;
+        for (x = v; x != s; x = prev[x])
+            path.push(x);
+        path.push(x);
+        return path;
+    }
+
+    /**
+     * Resuelve un lote de consultas de costo minimo. La consulta i pide
+     * el costo de fuentes[i] a destinos[i]. Las consultas se ordenan por
+     * fuente, de modo que se hace una sola busqueda por fuente distinta,
+     * y se reparten en bloques entre los hilos.
+     *
+     * @param G         Digrafo.
+     * @param fuentes   Vertices fuente de cada consulta.
+     * @param destinos  Vertices destino de cada consulta.
+     * @param hilos     Cantidad de hilos a usar.
+     *
+     * @return arreglo con el costo de cada consulta, Integer.MAX_VALUE si
+     *         el destino no es alcanzable.
+     *
+     * @throws IllegalArgumentException si los arreglos son de distinto tamaño
+     *         o hilos es menor que 1.
+     */
+    public static int[] consultarLote(final Digraph G, final int[] fuentes, final int[] destinos, int hilos) {
+        if (fuentes.length != destinos.length)
+            throw new IllegalArgumentException("Debe haber un destino por cada fuente");
+        if (hilos < 1)
+            throw new IllegalArgumentException("Debe haber al menos un hilo");
+        final int n = fuentes.length;
+        final int[] resultado = new int[n];
+
+        // Indices de las consultas ordenados por fuente (conteo)
+        final int[] orden = new int[n];
+        int[] inicio = new int[G.V() + 1];
+        for (int i = 0; i < n; i++)
+            inicio[fuentes[i] + 1]++;
+        for (int v = 0; v < G.V(); v++)
+            inicio[v + 1] += inicio[v];
+        for (int i = 0; i < n; i++)
+            orden[inicio[fuentes[i]]++] = i;
+
+        // Se construye la representacion compacta antes de compartir G
+        G.offsets();
+
+        ExecutorService pool = Executors.newFixedThreadPool(hilos);
+        try {
+            ArrayList<Future<?>> tareas = new ArrayList<Future<?>>();
+            int tam = (n + hilos - 1) / hilos;
+            int desde = 0;
+            while (desde < n) {
+                int hasta = Math.min(desde + tam, n);
+                // No se corta el bloque en medio de una misma fuente
+                while (hasta < n && fuentes[orden[hasta]] == fuentes[orden[hasta - 1]])
+                    hasta++;
+                final int ini = desde, fin = hasta;
+                tareas.add(pool.submit(new Runnable() {
+                    public void run() {
+                        MotorDijkstra motor = new MotorDijkstra(G);
+                        int actual = -1;
+                        for (int k = ini; k < fin; k++) {
+                            int i = orden[k];
+                            if (fuentes[i] != actual) {
+                                actual = fuentes[i];
+                                motor.buscar(actual);
+                            }
+                            resultado[i] = motor.costo(destinos[i]);
+                        }
+                    }
+                }));
+                desde = hasta;
+            }
+            for (Future<?> t : tareas)
+                t.get();
+        } catch (Exception e) {
+            throw new RuntimeException("Error resolviendo el lote de consultas", e);
+        } finally {
+            pool.shutdown();
+        }
+        return resultado;
+    }
+}
@@ -0,0 +1,232 @@
+/**
+ * Algoritmo de Bellman-Ford con cola (SPFA) para encontrar caminos de
+ * costo minimo en digrafos cualesquiera, con costos negativos y ciclos.
+ *
+ * Solo se revisan los arcos de los nodos cuyo costo cambio, que se
+ * guardan en una cola circular; un conjunto de bits indica si un nodo ya
+ * esta en la cola. Ademas se lleva la cantidad de arcos del camino de
+ * cada nodo: si llega a V, el camino repite nodos y se busca un ciclo en
+ * los apuntadores, que es un ciclo de costo negativo.
+ *
+ * Los arcos se copian a arreglos compactos y todos los arreglos de
+ * trabajo se crean una sola vez, asi que el ciclo principal no crea
+ * objetos y el grafo puede consultarse desde varias fuentes.
+ *
+ * @author Gianni Manilia
+ * @author Adolfo Jeritson
+ */
+import java.util.*;
+
+public class BellmanFord {
+	private final double INFINITO = Double.POSITIVE_INFINITY;
+	private final int V;
+	private int inicio[], destino[];	// lista de adyacencias compacta
+	private double peso[];				// costo del arco de cada posicion
+	private double costos[];
+	private int apuntadores[];			// nodo anterior, -1 si no tiene
+	private int largo[];				// arcos del camino hasta cada nodo
+	private int cola[];					// cola circular de nodos
+	private long enCola[];				// bit v encendido si v esta en la cola
+	private int visto[];				// marcas para buscar ciclos
+	private int marcaVisto = 0;
+	private int s = -1;
+	private ArrayList<Integer> ciclo;
+
+	/**
+	 * Inicialización para el algoritmo de Bellman-Ford.
+	 *
+	 * @param G 	Digrafo con costos.
+	 */
+	public BellmanFord(EdgeWeightedDigraph G) {
+		V = G.V();
+		inicio = new int[V + 1];
+		for (int v = 0; v < V; v++)
+			inicio[v + 1] = inicio[v] + G.outdegree(v);
+		destino = new int[inicio[V]];
+		peso = new double[inicio[V]];
+		for (int v = 0; v < V; v++) {
+			int k = inicio[v];
+			for (DirectedEdge e : G.adj(v)) {
+				destino[k] = e.to();
+				peso[k++] = e.weight();
+			}
+		}
+		costos = new double[V];
+		apuntadores = new int[V];
+		largo = new int[V];
+		cola = new int[V];
+		enCola = new long[(V + 63) >>> 6];
+		visto = new int[V];
+	}
+
+	/**
+	 * Calcula los caminos de costo mínimo desde s.
+	 *
+	 * @param s 	Vértice inicial
+	 *
+	 * @return true si no hay ciclo negativo alcanzable desde s.
+	 */
+	public boolean calcular(int s) {
+		if (s < 0 || s >= V)
+			throw new IndexOutOfBoundsException("vertex " + s + " is not between 0 and " + (V-1));
+		this.s = s;
+		ciclo = null;
+		Arrays.fill(costos, INFINITO);
+		Arrays.fill(apuntadores, -1);
+		Arrays.fill(enCola, 0L);
+		costos[s] = 0;
+		largo[s] = 0;
+
+		// La cola tiene a lo sumo V nodos porque no se repiten
+		int frente = 0, tam = 0;
+		cola[0] = s;
+		tam = 1;
+		enCola[s >>> 6] |= 1L << (s & 63);
+
+		while (tam > 0) {
+			int n = cola[frente];
+			frente = (frente + 1 == V) ? 0 : frente + 1;
+			tam--;
+			enCola[n >>> 6] &= ~(1L << (n & 63));
+
+			for (int k = inicio[n]; k < inicio[n + 1]; k++) {
+				int m = destino[k];
+				double alt = costos[n] + peso[k];
+				if (alt < costos[m]) {
+					costos[m] = alt;
+					apuntadores[m] = n;
+					largo[m] = largo[n] + 1;
+					if (largo[m] >= V && buscarCiclo(m))
+						return false;
+					if ((enCola[m >>> 6] & (1L << (m & 63))) == 0) {
+						enCola[m >>> 6] |= 1L << (m & 63);
+						int fin = frente + tam;
+						cola[(fin >= V) ? fin - V : fin] = m;
+						tam++;
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	// Busca un ciclo siguiendo los apuntadores desde v
+	private boolean buscarCiclo(int v) {
+		marcaVisto++;
+		if (marcaVisto == 0) {
+			Arrays.fill(visto, 0);
+			marcaVisto = 1;
+		}
+		int x = v;
+		while (x != -1 && visto[x] != marcaVisto) {
+			visto[x] = marcaVisto;
+			x = apuntadores[x];
+		}
+		if (x == -1) return false;
+
+		// x esta en el ciclo; se recorre hacia atras y se invierte
+		ciclo = new ArrayList<Integer>();
+		int y = x;
+		do {
+			ciclo.add(y);
+			y = apuntadores[y];
+		} while (y != x);
+		ciclo.add(x);
+		Collections.reverse(ciclo);
+		return true;
+	}
+
+	/**
+	 * Indica si el último cálculo encontró un ciclo de costo negativo.
+	 *
+	 * @return true si hay ciclo negativo.
+	 */
+	public boolean tieneCicloNegativo() {
+		return ciclo != null;
+	}
+
+	/**
+	 * Retorna un ciclo de costo negativo encontrado en el último cálculo.
+	 *
+	 * @return Lista con los vértices del ciclo, donde el primero se repite
+	 *         al final, o null si no hay ciclo negativo.
+	 */
+	public ArrayList<Integer> cicloNegativo() {
+		return ciclo;
+	}
+
+	/**
+	 * Retorna el costo del ciclo dado sumando el arco más barato entre
+	 * cada par de vértices consecutivos.
+	 *
+	 * @param c 	Lista con los vértices del ciclo.
+	 *
+	 * @return costo del ciclo.
+	 */
+	public double costoCiclo(ArrayList<Integer> c) {
+		double total = 0;
+		for (int i = 0; i + 1 < c.size(); i++) {
+			int v = c.get(i), w = c.get(i + 1);
+			double menor = INFINITO;
+			for (int k = inicio[v]; k < inicio[v + 1]; k++) {
+				if (destino[k] == w && peso[k] < menor)
+					menor = peso[k];
+			}
+			total += menor;
+		}
+		return total;
+	}
+
+	// Verifica que los costos esten definidos
+	private void validarCostos() {
+		if (s == -1)
+			throw new IllegalStateException("No se ha calculado desde ninguna fuente");
+		if (ciclo != null)
+			throw new UnsupportedOperationException("Existe un ciclo de costo negativo");
+	}
+
+	/**
+	 * Retorna el costo del camino mínimo hasta el vértice v.
+	 *
+	 * @param v 	Vértice final
+	 *
+	 * @return costo del camino.
+	 *
+	 * @throws UnsupportedOperationException si hay un ciclo negativo.
+	 */
+	public double caminoCostoMinimo(int v) {
+		validarCostos();
+		return costos[v];
+	}
+
+	/**
+	 * Chequea si existe un camino hasta el vértice v.
+	 *
+	 * @param v 	Vértice final
+	 *
+	 * @return true si existe camino.
+	 */
+	public boolean existeCaminoHasta(int v) {
+		validarCostos();
+		return costos[v] != INFINITO;
+	}
+
+	/**
+	 * Halla el camino de costo mínimo hasta el vértice v.
+	 *
+	 * @param v 	Vértice final
+	 *
+	 * @return Lista con los vértices del camino desde la fuente, null si
+	 *         no hay camino.
+	 *
+	 * @throws UnsupportedOperationException si hay un ciclo negativo.
+	 */
+	public ArrayList<Integer> obtenerCaminoMinimo(int v) {
+		if (!existeCaminoHasta(v)) return null;
+		ArrayList<Integer> camino = new ArrayList<Integer>();
+		for (int x = v; x != -1; x = apuntadores[x])
+			camino.add(x);
+		Collections.reverse(camino);
+		return camino;
+	}
+}
@@ -0,0 +1,43 @@
+/**
+ * Cliente para comparar el tiempo de Floyd con el de correr
+ * Bellman-Ford desde cada vertice, sobre digrafos aleatorios con V
+ * vertices y E lados de costos no negativos.
+ *
+ * Ejecucion: java BenchFloyd <V> <E> [semilla]
+ *
+ * @author Adolfo Jeritson.
+ * @author Gianni Manilia.
+ */
+public class BenchFloyd {
+
+     public static void main(String[] args) {
+          int V = Integer.parseInt(args[0]);
+          int E = Integer.parseInt(args[1]);
+          StdRandom.setSeed((args.length > 2) ? Long.parseLong(args[2]) : 1);
+          EdgeWeightedDigraph G = new EdgeWeightedDigraph(V, E);
+
+          long inicio = System.nanoTime();
+          Floyd floyd = new Floyd(G);
+          double tFloyd = (System.nanoTime() - inicio) / 1e6;
+
+          // Solo se mide calcular(s); la comparacion con Floyd queda fuera
+          inicio = System.nanoTime();
+          BellmanFord bellman = new BellmanFord(G);
+          long nsBellman = System.nanoTime() - inicio;
+          boolean iguales = true;
+          for (int s = 0; s < V; s++) {
+               inicio = System.nanoTime();
+               bellman.calcular(s);
+               nsBellman += System.nanoTime() - inicio;
+               for (int t = 0; t < V; t++)
+                    iguales &= Math.abs(bellman.caminoCostoMinimo(t) - floyd.dist(s, t)) < 1e-9
+                            || bellman.caminoCostoMinimo(t) == floyd.dist(s, t);
+          }
+          double tBellman = nsBellman / 1e6;
+
+          StdOut.println(String.format("V=%d E=%d", V, E));
+          StdOut.println(String.format("  Floyd:                  %10.1f ms", tFloyd));
+          StdOut.println(String.format("  Bellman-Ford desde cada: %9.1f ms", tBellman));
+          StdOut.println(String.format("  Mismos costos: %B", iguales));
+     }
+}
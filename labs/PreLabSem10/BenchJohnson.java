@@ -0,0 +1,85 @@
+/**
+ * Cliente para medir el algoritmo de Johnson sobre digrafos aleatorios
+ * dispersos con lados de costo negativo pero sin ciclos negativos. Los
+ * costos se generan como c + p(v) - p(u), con c entre 0 y 1 y p un
+ * potencial aleatorio, de modo que todo ciclo tiene costo no negativo.
+ *
+ * Se calculan todas las filas con 1 hilo y con <hilos> hilos, sumando
+ * los costos finitos sin guardar la matriz. Si V es a lo sumo 2000 se
+ * comparan ademas las filas con las de Floyd, en una pasada aparte que
+ * no se mide.
+ *
+ * Ejecucion: java BenchJohnson <V> <E> <hilos> [semilla]
+ *
+ * @author Adolfo Jeritson.
+ * @author Gianni Manilia.
+ */
+public class BenchJohnson {
+
+     /**
+      * Suma los costos finitos de las filas que recibe.
+      */
+     private static class Suma implements Johnson.Receptor {
+          private double total = 0.0;
+          private long alcanzables = 0;
+
+          public synchronized void fila(int s, double[] costos) {
+               for (int t = 0; t < costos.length; t++) {
+                    if (costos[t] != Double.POSITIVE_INFINITY) {
+                         total += costos[t];
+                         alcanzables++;
+                    }
+               }
+          }
+     }
+
+     public static void main(String[] args) {
+          int V = Integer.parseInt(args[0]);
+          int E = Integer.parseInt(args[1]);
+          int hilos = Integer.parseInt(args[2]);
+          StdRandom.setSeed((args.length > 3) ? Long.parseLong(args[3]) : 1);
+
+          double[] p = new double[V];
+          for (int v = 0; v < V; v++)
+               p[v] = 10.0 * StdRandom.uniform();
+          EdgeWeightedDigraph G = new EdgeWeightedDigraph(V);
+          for (int i = 0; i < E; i++) {
+               int u = StdRandom.uniform(V);
+               int v = StdRandom.uniform(V);
+               G.addEdge(new DirectedEdge(u, v, StdRandom.uniform() + p[v] - p[u]));
+          }
+
+          long inicio = System.nanoTime();
+          Johnson johnson = new Johnson(G);
+          double tBellman = (System.nanoTime() - inicio) / 1e6;
+
+          inicio = System.nanoTime();
+          Suma uno = new Suma();
+          johnson.calcular(1, uno);
+          double tUno = (System.nanoTime() - inicio) / 1e6;
+
+          inicio = System.nanoTime();
+          Suma varios = new Suma();
+          johnson.calcular(hilos, varios);
+          double tVarios = (System.nanoTime() - inicio) / 1e6;
+
+          StdOut.println(String.format("V=%d E=%d", V, E));
+          StdOut.println(String.format("  Bellman-Ford (potencial): %10.1f ms", tBellman));
+          StdOut.println(String.format("  Dijkstras, 1 hilo:        %10.1f ms", tUno));
+          StdOut.println(String.format("  Dijkstras, %d hilos:       %10.1f ms", hilos, tVarios));
+          StdOut.println(String.format("  Pares alcanzables: %d, suma de costos: %.4f", uno.alcanzables, uno.total));
+          StdOut.println(String.format("  Misma suma con %d hilos: %B", hilos,
+               uno.alcanzables == varios.alcanzables && Math.abs(uno.total - varios.total) < 1e-6 * Math.abs(uno.total) + 1e-6));
+          if (V <= 2000) {
+               Floyd floyd = new Floyd(G);
+               boolean iguales = true;
+               for (int s = 0; s < V; s++) {
+                    double[] costos = johnson.fila(s);
+                    for (int t = 0; t < V; t++)
+                         iguales &= (costos[t] == floyd.dist(s, t))
+                                 || Math.abs(costos[t] - floyd.dist(s, t)) < 1e-6;
+               }
+               StdOut.println(String.format("  Mismos costos que Floyd: %B", iguales));
+          }
+     }
+}
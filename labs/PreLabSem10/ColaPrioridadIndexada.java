@@ -0,0 +1,151 @@
+/**
+ * Laboratorio de Algoritmos III
+ *
+ * Cola de prioridad de minimos indexada por vertice, implementada con un
+ * heap binario sobre arreglos primitivos. Cada vertice entre 0 y N-1
+ * puede estar a lo sumo una vez en la cola, con una clave real.
+ *
+ * Ademas de insertar y sacar el minimo, permite disminuir la clave de un
+ * vertice que ya esta en la cola (decreaseKey), todo en O(log N), sin
+ * crear objetos. Basada en IndexMinPQ de Sedgewick y Wayne.
+ *
+ * @author Adolfo Jeritson.
+ * @author Gianni Manilia.
+ */
+import java.util.NoSuchElementException;
+
+public class ColaPrioridadIndexada {
+    private int   n;        // numero de elementos en la cola
+    private int[] pq;       // heap con indices desde 1
+    private int[] qp;       // inversa de pq: qp[pq[i]] = i, -1 si no esta
+    private double[] claves;  // claves[v] = prioridad de v
+
+    /**
+     * Crea una cola vacia para los vertices 0 a maxN-1.
+     *
+     * @param maxN cantidad de vertices.
+     */
+    public ColaPrioridadIndexada(int maxN) {
+        pq = new int[maxN + 1];
+        qp = new int[maxN];
+        claves = new double[maxN];
+        for (int i = 0; i < maxN; i++)
+            qp[i] = -1;
+    }
+
+    /**
+     * Indica si la cola esta vacia.
+     *
+     * @return true si no hay elementos.
+     */
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    /**
+     * Indica si el vertice v esta en la cola.
+     *
+     * @param v vertice.
+     *
+     * @return true si v esta en la cola.
+     */
+    public boolean contains(int v) {
+        return qp[v] != -1;
+    }
+
+    /**
+     * Inserta el vertice v con la clave dada.
+     *
+     * @param v     vertice.
+     * @param clave prioridad.
+     *
+     * @throws IllegalArgumentException si v ya esta en la cola.
+     */
+    public void insert(int v, double clave) {
+        if (contains(v)) throw new IllegalArgumentException("El vertice ya esta en la cola");
+        n++;
+        qp[v] = n;
+        pq[n] = v;
+        claves[v] = clave;
+        swim(n);
+    }
+
+    /**
+     * Disminuye la clave del vertice v.
+     *
+     * @param v     vertice que esta en la cola.
+     * @param clave nueva prioridad, menor que la actual.
+     *
+     * @throws NoSuchElementException si v no esta en la cola.
+     */
+    public void decreaseKey(int v, double clave) {
+        if (!contains(v)) throw new NoSuchElementException("El vertice no esta en la cola");
+        claves[v] = clave;
+        swim(qp[v]);
+    }
+
+    /**
+     * Retorna la menor clave de la cola sin sacarla.
+     *
+     * @return menor clave.
+     *
+     * @throws NoSuchElementException si la cola esta vacia.
+     */
+    public double minKey() {
+        if (n == 0) throw new NoSuchElementException("Cola de prioridad vacia");
+        return claves[pq[1]];
+    }
+
+    /**
+     * Saca de la cola el vertice con menor clave.
+     *
+     * @return vertice con menor clave.
+     *
+     * @throws NoSuchElementException si la cola esta vacia.
+     */
+    public int delMin() {
+        if (n == 0) throw new NoSuchElementException("Cola de prioridad vacia");
+        int min = pq[1];
+        exch(1, n--);
+        sink(1);
+        qp[min] = -1;
+        return min;
+    }
+
+    /**
+     * Vacia la cola para volver a usarla.
+     */
+    public void clear() {
+        while (n > 0)
+            qp[pq[n--]] = -1;
+    }
+
+    private boolean greater(int i, int j) {
+        return claves[pq[i]] > claves[pq[j]];
+    }
+
+    private void exch(int i, int j) {
+        int swap = pq[i];
+        pq[i] = pq[j];
+        pq[j] = swap;
+        qp[pq[i]] = i;
+        qp[pq[j]] = j;
+    }
+
+    private void swim(int k) {
+        while (k > 1 && greater(k/2, k)) {
+            exch(k, k/2);
+            k = k/2;
+        }
+    }
+
+    private void sink(int k) {
+        while (2*k <= n) {
+            int j = 2*k;
+            if (j < n && greater(j, j+1)) j++;
+            if (!greater(k, j)) break;
+            exch(k, j);
+            k = j;
+        }
+    }
+}
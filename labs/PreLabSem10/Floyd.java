@@ -1,16 +1,149 @@
+/**
+ * Implementación del algoritmo de Floyd-Warshall para hallar los caminos
+ * de costo mínimo entre todos los pares de vértices de un digrafo.
+ *
+ * Las matrices de costos y de siguiente vértice se guardan por filas en
+ * arreglos primitivos de tamaño V*V. La matriz de siguiente vértice
+ * indica, para cada par (s, t), el vértice que sigue a s en el camino
+ * mínimo hacia t, así que el camino se reconstruye saltando de vértice
+ * en vértice con los lados más baratos entre cada par consecutivo.
+ *
+ * Si al terminar algún vértice tiene costo negativo hacia sí mismo, el
+ * digrafo tiene un ciclo de costo negativo y los costos no están
+ * definidos.
+ *
+ * @author Adolfo Jeritson.
+ * @author Gianni Manilia.
+ */
 import java.util.*;
 
 public class Floyd {
+     private static final double INFINITO = Double.POSITIVE_INFINITY;
+     private final int V;
+     private double[] dist;           // dist[s*V + t] = costo de s a t
+     private int[] next;              // next[s*V + t] = vertice que sigue a s, -1 si no hay camino
+     private DirectedEdge[] lado;     // lado[s*V + t] = lado mas barato de s a t
+     private boolean cicloNegativo;
 
+     /**
+      * Calcula los caminos de costo mínimo entre todos los pares.
+      *
+      * @param G     Digrafo con costos.
+      */
      public Floyd(EdgeWeightedDigraph G) {
+          V = G.V();
+          dist = new double[V * V];
+          next = new int[V * V];
+          lado = new DirectedEdge[V * V];
+          Arrays.fill(dist, INFINITO);
+          Arrays.fill(next, -1);
 
+          for (int v = 0; v < V; v++) {
+               dist[v * V + v] = 0.0;
+               next[v * V + v] = v;
+          }
+          for (DirectedEdge e : G.edges()) {
+               int p = e.from() * V + e.to();
+               if (e.weight() < dist[p]) {
+                    dist[p] = e.weight();
+                    next[p] = e.to();
+               }
+               if (lado[p] == null || e.weight() < lado[p].weight())
+                    lado[p] = e;
+          }
+
+          for (int k = 0; k < V; k++) {
+               int filaK = k * V;
+               for (int i = 0; i < V; i++) {
+                    int filaI = i * V;
+                    double dik = dist[filaI + k];
+                    if (dik == INFINITO) continue;
+                    int nik = next[filaI + k];
+                    for (int j = 0; j < V; j++) {
+                         double alt = dik + dist[filaK + j];
+                         if (alt < dist[filaI + j]) {
+                              dist[filaI + j] = alt;
+                              next[filaI + j] = nik;
+                         }
+                    }
+               }
+               // Un ciclo negativo se detecta en cuanto aparece
+               if (dist[filaK + k] < 0) {
+                    cicloNegativo = true;
+                    return;
+               }
+          }
+          for (int v = 0; v < V; v++) {
+               if (dist[v * V + v] < 0) {
+                    cicloNegativo = true;
+                    return;
+               }
+          }
+     }
+
+     /**
+      * Indica si el digrafo tiene un ciclo de costo negativo.
+      *
+      * @return true si hay ciclo negativo.
+      */
+     public boolean hasNegativeCycle() {
+          return cicloNegativo;
+     }
+
+     private void validar(int s, int t) {
+          if (s < 0 || s >= V)
+               throw new IndexOutOfBoundsException("vertex " + s + " is not between 0 and " + (V-1));
+          if (t < 0 || t >= V)
+               throw new IndexOutOfBoundsException("vertex " + t + " is not between 0 and " + (V-1));
+          if (cicloNegativo)
+               throw new UnsupportedOperationException("Existe un ciclo de costo negativo");
+     }
+
+     /**
+      * Indica si existe un camino de s a t.
+      *
+      * @param s     Vértice inicial.
+      * @param t     Vértice final.
+      *
+      * @return true si existe camino.
+      */
+     public boolean hasPath(int s, int t) {
+          validar(s, t);
+          return dist[s * V + t] != INFINITO;
      }
 
+     /**
+      * Retorna el costo del camino mínimo de s a t.
+      *
+      * @param s     Vértice inicial.
+      * @param t     Vértice final.
+      *
+      * @return costo del camino, infinito si no existe.
+      *
+      * @throws UnsupportedOperationException si hay un ciclo negativo.
+      */
      public double dist(int s, int t) {
-	  return 0.0;
+          validar(s, t);
+          return dist[s * V + t];
      }
 
+     /**
+      * Retorna los lados del camino mínimo de s a t.
+      *
+      * @param s     Vértice inicial.
+      * @param t     Vértice final.
+      *
+      * @return Lista con los lados del camino, vacía si s = t o si no
+      *         existe camino.
+      *
+      * @throws UnsupportedOperationException si hay un ciclo negativo.
+      */
      public ArrayList<DirectedEdge> path(int s, int t) {
-	  return new ArrayList<DirectedEdge>();
+          validar(s, t);
+          ArrayList<DirectedEdge> camino = new ArrayList<DirectedEdge>();
+          if (next[s * V + t] == -1) return camino;
+          for (int u = s; u != t; u = next[u * V + t])
+               camino.add(lado[u * V + next[u * V + t]]);
+          return camino;
      }
 }
@@ -0,0 +1,204 @@
+/**
+ * Implementación del algoritmo de Johnson para hallar los caminos de
+ * costo mínimo entre todos los pares de vértices de un digrafo disperso.
+ *
+ * Primero se corre Bellman-Ford una sola vez desde un vértice auxiliar
+ * unido a todos con costo 0, lo que da un potencial h para cada vértice.
+ * Con los costos w(u,v) + h(u) - h(v), que no son negativos, se corre
+ * Dijkstra desde cada vértice, repartiendo las fuentes entre varios
+ * hilos. El costo real de s a t es el costo ajustado - h(s) + h(t).
+ *
+ * Los costos no se guardan en una matriz de V*V: cada fila se entrega a
+ * un Receptor apenas se calcula, y luego se reutiliza su arreglo.
+ *
+ * @author Adolfo Jeritson.
+ * @author Gianni Manilia.
+ */
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class Johnson {
+     private static final double INFINITO = Double.POSITIVE_INFINITY;
+     private final int V;
+     private int[] inicio, destino;        // lista de adyacencias compacta
+     private double[] peso;                // costo ajustado de cada posicion
+     private double[] h;                   // potencial de cada vertice
+     private ArrayList<Integer> ciclo;     // ciclo negativo, si existe
+
+     /**
+      * Recibe las filas de costos a medida que se calculan. Puede ser
+      * llamado desde varios hilos a la vez, y el arreglo se reutiliza
+      * después de que fila retorna, así que debe copiarse si se quiere
+      * guardar.
+      */
+     public interface Receptor {
+          /**
+           * Recibe los costos mínimos desde s.
+           *
+           * @param s       Vértice fuente.
+           * @param costos  costos[t] = costo de s a t, infinito si no hay camino.
+           */
+          void fila(int s, double[] costos);
+     }
+
+     /**
+      * Calcula los potenciales con Bellman-Ford y ajusta los costos.
+      *
+      * @param G     Digrafo con costos.
+      */
+     public Johnson(EdgeWeightedDigraph G) {
+          V = G.V();
+
+          // Vertice auxiliar V unido a todos con costo 0
+          EdgeWeightedDigraph aux = new EdgeWeightedDigraph(V + 1);
+          for (DirectedEdge e : G.edges())
+               aux.addEdge(e);
+          for (int v = 0; v < V; v++)
+               aux.addEdge(new DirectedEdge(V, v, 0.0));
+          BellmanFord bellman = new BellmanFord(aux);
+          if (!bellman.calcular(V)) {
+               ciclo = bellman.cicloNegativo();
+               return;
+          }
+          h = new double[V];
+          for (int v = 0; v < V; v++)
+               h[v] = bellman.caminoCostoMinimo(v);
+
+          inicio = new int[V + 1];
+          for (int v = 0; v < V; v++)
+               inicio[v + 1] = inicio[v] + G.outdegree(v);
+          destino = new int[inicio[V]];
+          peso = new double[inicio[V]];
+          for (int v = 0; v < V; v++) {
+               int k = inicio[v];
+               for (DirectedEdge e : G.adj(v)) {
+                    destino[k] = e.to();
+                    // Se evitan negativos pequeños por redondeo
+                    peso[k++] = Math.max(0.0, e.weight() + h[v] - h[e.to()]);
+               }
+          }
+     }
+
+     /**
+      * Indica si el digrafo tiene un ciclo de costo negativo.
+      *
+      * @return true si hay ciclo negativo.
+      */
+     public boolean hasNegativeCycle() {
+          return ciclo != null;
+     }
+
+     /**
+      * Retorna un ciclo de costo negativo del digrafo.
+      *
+      * @return Lista con los vértices del ciclo, donde el primero se repite
+      *         al final, o null si no hay ciclo negativo.
+      */
+     public ArrayList<Integer> cicloNegativo() {
+          return ciclo;
+     }
+
+     /**
+      * Calcula los costos mínimos desde s.
+      *
+      * @param s     Vértice fuente.
+      *
+      * @return arreglo con el costo de s a cada vértice.
+      *
+      * @throws UnsupportedOperationException si hay un ciclo negativo.
+      */
+     public double[] fila(int s) {
+          if (ciclo != null)
+               throw new UnsupportedOperationException("Existe un ciclo de costo negativo");
+          if (s < 0 || s >= V)
+               throw new IndexOutOfBoundsException("vertex " + s + " is not between 0 and " + (V-1));
+          double[] costos = new double[V];
+          new Busqueda().dijkstra(s, costos);
+          return costos;
+     }
+
+     /**
+      * Calcula los costos mínimos entre todos los pares, entregando cada
+      * fila al receptor. Las fuentes se reparten entre los hilos a medida
+      * que terminan, y cada hilo reutiliza sus arreglos.
+      *
+      * @param hilos     Cantidad de hilos a usar.
+      * @param receptor  Receptor de las filas.
+      *
+      * @throws UnsupportedOperationException si hay un ciclo negativo.
+      */
+     public void calcular(int hilos, final Receptor receptor) {
+          if (ciclo != null)
+               throw new UnsupportedOperationException("Existe un ciclo de costo negativo");
+          if (hilos < 1)
+               throw new IllegalArgumentException("Debe haber al menos un hilo");
+          final AtomicInteger siguiente = new AtomicInteger(0);
+          ExecutorService pool = Executors.newFixedThreadPool(hilos);
+          try {
+               ArrayList<Future<?>> tareas = new ArrayList<Future<?>>();
+               for (int i = 0; i < hilos; i++) {
+                    tareas.add(pool.submit(new Runnable() {
+                         public void run() {
+                              Busqueda busqueda = new Busqueda();
+                              double[] costos = new double[V];
+                              int s;
+                              while ((s = siguiente.getAndIncrement()) < V) {
+                                   busqueda.dijkstra(s, costos);
+                                   receptor.fila(s, costos);
+                              }
+                         }
+                    }));
+               }
+               for (Future<?> t : tareas)
+                    t.get();
+          } catch (Exception e) {
+               throw new RuntimeException("Error calculando los caminos", e);
+          } finally {
+               pool.shutdown();
+          }
+     }
+
+     /**
+      * Arreglos de trabajo de Dijkstra de un hilo.
+      */
+     private class Busqueda {
+          private double[] distA = new double[V];
+          private int[] marca = new int[V];
+          private int epoca = 0;
+          private ColaPrioridadIndexada pq = new ColaPrioridadIndexada(V);
+
+          // Dijkstra sobre los costos ajustados; deja los costos reales en costos
+          void dijkstra(int s, double[] costos) {
+               epoca++;
+               if (epoca == 0) {
+                    Arrays.fill(marca, 0);
+                    epoca = 1;
+               }
+               pq.clear();
+               marca[s] = epoca;
+               distA[s] = 0.0;
+               pq.insert(s, 0.0);
+               while (!pq.isEmpty()) {
+                    int v = pq.delMin();
+                    for (int k = inicio[v]; k < inicio[v + 1]; k++) {
+                         int w = destino[k];
+                         double alt = distA[v] + peso[k];
+                         if (marca[w] != epoca) {
+                              marca[w] = epoca;
+                              distA[w] = alt;
+                              pq.insert(w, alt);
+                         } else if (alt < distA[w]) {
+                              distA[w] = alt;
+                              if (pq.contains(w)) pq.decreaseKey(w, alt);
+                              else                pq.insert(w, alt);
+                         }
+                    }
+               }
+               for (int t = 0; t < V; t++)
+                    costos[t] = (marca[t] == epoca) ? distA[t] - h[s] + h[t] : INFINITO;
+          }
+     }
+}
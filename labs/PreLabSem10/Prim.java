@@ -5,89 +5,64 @@
  * @author Adolfo Jeritson.
  * @author Gianni Manilia.
  */
-import java.util.PriorityQueue;
-import java.util.Comparator;
 import java.util.LinkedHashSet;
 
 public class Prim {
+    private static final double INFINITO = Double.POSITIVE_INFINITY;
     private LinkedHashSet<Edge> ladosArbol;
-
-    /**
-     * Clase que implementa el comparador para la cola de prioridad.
-     */
-    private class EdgeComparator implements Comparator<Edge> {
-        @Override
-        public int compare(Edge a, Edge b) {
-            if      (a.weight() < b.weight()) return -1;
-            else if (a.weight() > b.weight()) return +1;
-            else                              return  0;
-        }
-    }
+    private Edge[]      ladoA;      // ladoA[v] = lado mas barato que une v al arbol
+    private double[]    costoA;     // costoA[v] = costo de ladoA[v]
+    private boolean[]   enArbol;    // enArbol[v] = true si v ya esta en el arbol
+    private ColaPrioridadIndexada pq;
 
     /**
      * Inicialización para el algoritmo de Prim.
-     * Se crea la cola con los lados y se añaden, luego se crea un conjunto
-     * con todos los nodos y el conjunto de los nodos a revisar.
+     * Se usa una cola de prioridad indexada por nodo, donde la clave de
+     * cada nodo fuera del arbol es el costo del lado mas barato que lo une
+     * al arbol. En cada paso se saca el nodo de menor clave, se añade su
+     * lado al arbol y se actualizan las claves de sus vecinos, en tiempo
+     * O(E log V).
      *
-     * Se inicia añadiendo el nodo 0 para empezar por el, se llama a la funcion
-     * que escoge el lado minimo y se añade a la lista de lados del arbol.
+     * Se empieza por el nodo 0; si el grafo no es conexo se sigue con el
+     * primer nodo no alcanzado y se obtiene un bosque cobertor minimo.
      *
      * @param G     Grafo no orientado con costos a revisar.
      */
     public Prim(EdgeWeightedGraph G) {
-        // Creamos y llenamos la cola ordenana de forma creciente.
-        Comparator<Edge> comparator = new EdgeComparator();
-        PriorityQueue<Edge> pq = new PriorityQueue<Edge>(G.E(), comparator);
-        for (Edge e : G.edges()) 
-            pq.add(e);
-
         ladosArbol = new LinkedHashSet<Edge>();
-        LinkedHashSet<Integer> u = new LinkedHashSet<Integer>();
-        LinkedHashSet<Integer> v = new LinkedHashSet<Integer>();
-        for (int i = 0; i < G.V(); i++)
-            v.add(i);
-
-        // Se puede empezar con cualquier nodo, usamos 0.
-        u.add(0);
-        while(!u.containsAll(v)) {
-            // Escoger lado costo minimo con inicial en U, final en V-U.
-            Edge e = escogerLadoMin(u, v, pq);
-            int inicial = e.either();
-            ladosArbol.add(e);
-            u.add(e.other(inicial));
-        }
-     }
+        ladoA = new Edge[G.V()];
+        costoA = new double[G.V()];
+        enArbol = new boolean[G.V()];
+        pq = new ColaPrioridadIndexada(G.V());
+        for (int v = 0; v < G.V(); v++)
+            costoA[v] = INFINITO;
 
-    /**
-     * Escoger el camino con costo minimo para el caso requerido.
-     * El algorito de Prim necesita escoger un lado que sea de costo minimo
-     * y que uno de sus extremos se encuentre en el conjunto U de nodos ya 
-     * revisados, y el otro en la diferencia de los conjuntos V - U.
-     *
-     * @param u             Conjunto de nodos ya revisados.
-     * @param v             Conjunto de todos los nodos del grafo.
-     * @param colaLados     Cola con todos los caminos del grafo.
-     *
-     * @return Lado de costo minimo que cumple las condiciones, 
-     *          null si no se consigue lado.
-     */
-    public Edge escogerLadoMin(LinkedHashSet<Integer> u, LinkedHashSet<Integer> v, PriorityQueue<Edge> colaLados) {
-        // Copia local de la cola para no modificar.
-        PriorityQueue<Edge> pq = new PriorityQueue<Edge>(colaLados);
-        LinkedHashSet<Integer>  terminales = new LinkedHashSet<Integer>(v);
-        
-        for (Integer n : v) {
-            if (u.contains(n))
-                terminales.remove(n);
+        for (int v = 0; v < G.V(); v++) {
+            if (!enArbol[v])
+                prim(G, v);
         }
+    }
 
+    // Hace crecer el arbol desde s
+    private void prim(EdgeWeightedGraph G, int s) {
+        costoA[s] = 0.0;
+        pq.insert(s, 0.0);
         while (!pq.isEmpty()) {
-            Edge e = pq.poll();
-            int inicial = e.either();
-            if (u.contains(inicial) && terminales.contains(e.other(inicial)))
-                return e;
+            int v = pq.delMin();
+            enArbol[v] = true;
+            if (ladoA[v] != null)
+                ladosArbol.add(ladoA[v]);
+            for (Edge e : G.adj(v)) {
+                int w = e.other(v);
+                if (enArbol[w]) continue;
+                if (e.weight() < costoA[w]) {
+                    costoA[w] = e.weight();
+                    ladoA[w] = e;
+                    if (pq.contains(w)) pq.decreaseKey(w, e.weight());
+                    else                pq.insert(w, e.weight());
+                }
+            }
         }
-        return null;
     }
 
     /**
@@ -1,70 +1,72 @@
-import java.util.PriorityQueue;
-import java.util.Comparator;
+/**
+ * Implementación del algoritmo de Prim para obtener el arbol
+ * cobertor de costo mínimo de un grafo no orientado.
+ *
+ * Se usa una cola de prioridad indexada por nodo, donde la clave de
+ * cada nodo fuera del arbol es el costo de la arista mas barata que lo
+ * une al arbol, de modo que el algoritmo toma tiempo O(E log V).
+ *
+ * @author Adolfo Jeritson.
+ * @author Gianni Manilia.
+ */
 import java.util.ArrayList;
 
 public class Prim {
     private ArrayList<Lado>     ladosArbol;
-    private PriorityQueue<Lado> pq;
-
-    private class PathComparator implements Comparator<Lado> {
-        @Override
-        public int compare(Lado a, Lado b) {
-            return (a.costo() - b.costo());
-        }
-    }
 
     public Prim(Graph G) {
-        Comparator<Lado> comparator = new PathComparator();
-        pq = new PriorityQueue<Lado>(G.E(), comparator);
-
-        for (Lado e : G.lados()) 
-            pq.add(e);
-
         ladosArbol = obtenerArbolCobertor(G);
     }
 
     public ArrayList<Lado> obtenerArbolCobertor(Graph G) {
-        ArrayList<Integer> v = new ArrayList<Integer>();
-        ArrayList<Lado>    t = new ArrayList<Lado>();
-        ArrayList<Integer> u = new ArrayList<Integer>();
-        
-        for (int i = 0; i < G.V(); i++)
-            v.add(i);
+        int V = G.V();
 
-        u.add(0);
-        while(!u.containsAll(v)) {
-            // Escoger lado costo minimo con inicial en u, final en v-u
-            Lado e = escogerLadoMin(u, v, pq);
-            //pq.remove(e);
-            t.add(e);
-            u.add(e.to());
+        // Aristas incidentes a cada nodo
+        ArrayList<ArrayList<Lado>> incidentes = new ArrayList<ArrayList<Lado>>();
+        for (int i = 0; i < V; i++)
+            incidentes.add(new ArrayList<Lado>());
+        for (Lado e : G.lados()) {
+            incidentes.get(e.from()).add(e);
+            if (e.to() != e.from())
+                incidentes.get(e.to()).add(e);
         }
 
-        return t;
-    }
+        ArrayList<Lado> t = new ArrayList<Lado>();
+        Lado[]    ladoA = new Lado[V];        // arista mas barata que une cada nodo al arbol
+        boolean[] enArbol = new boolean[V];
+        ColaPrioridadIndexada pq = new ColaPrioridadIndexada(V);
 
-    public Lado escogerLadoMin(ArrayList<Integer> u, ArrayList<Integer> v, PriorityQueue<Lado> colaLados) {
-        // Copia local de la cola para no modificar
-        PriorityQueue<Lado> pq = new PriorityQueue<Lado>(colaLados);
-        ArrayList<Integer>  terminales = new ArrayList<Integer>(v);
-        
-        for (Integer n : v) {
-            if (u.contains(n))
-                terminales.remove(n);
+        // Se empieza con el nodo 0, y con el siguiente no alcanzado si el grafo no es conexo
+        for (int s = 0; s < V; s++) {
+            if (enArbol[s]) continue;
+            pq.insert(s, 0);
+            while (!pq.isEmpty()) {
+                int u = pq.delMin();
+                enArbol[u] = true;
+                if (ladoA[u] != null)
+                    t.add(ladoA[u]);
+                for (Lado e : incidentes.get(u)) {
+                    int w = (e.from() == u) ? e.to() : e.from();
+                    if (enArbol[w]) continue;
+                    if (!pq.contains(w)) {
+                        if (ladoA[w] == null) {
+                            ladoA[w] = e;
+                            pq.insert(w, e.costo());
+                        }
+                    } else if (e.costo() < ladoA[w].costo()) {
+                        ladoA[w] = e;
+                        pq.decreaseKey(w, e.costo());
+                    }
+                }
+            }
         }
 
-        while (!pq.isEmpty()) {
-            Lado e = pq.poll();
-            if (u.contains(e.from()) && terminales.contains(e.to()))
-                return e;
-        }
-        return null;
-
+        return t;
     }
 
     public void printArbol() {
         StdOut.println("Aristas del Arbol Cobertor:");
-        for (Lado e : lados) {
+        for (Lado e : ladosArbol) {
             StdOut.println(String.format("%d - %d (%d)", e.from(), e.to(), e.costo()));
         }
     }
@@ -76,4 +78,4 @@ public class Prim {
         test.printArbol();
 
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,52 @@
+/**
+ * Cliente para realizar la prueba al algoritmo de Floyd. Imprime el
+ * costo y el camino entre cada par de vertices y los compara con los
+ * que encuentra Bellman-Ford desde cada fuente.
+ *
+ * @author Adolfo Jeritson.
+ * @author Gianni Manilia.
+ */
+import java.util.ArrayList;
+
 public class TestFloyd {
 
+     /**
+      * Probar el algoritmo de Floyd.
+      */
      public static void main(String[] args) {
-	
-    }
+          In in = new In(args[0]);
+          EdgeWeightedDigraph G = new EdgeWeightedDigraph(in);
+          Floyd floyd = new Floyd(G);
+          BellmanFord bellman = new BellmanFord(G);
+
+          if (floyd.hasNegativeCycle()) {
+               StdOut.println("El grafo tiene un ciclo de costo negativo");
+               StdOut.println(String.format("Bellman-Ford tambien lo encuentra: %B", !bellman.calcular(0)));
+               return;
+          }
+
+          boolean iguales = true;
+          for (int s = 0; s < G.V(); s++) {
+               bellman.calcular(s);
+               for (int t = 0; t < G.V(); t++) {
+                    if (!floyd.hasPath(s, t)) {
+                         StdOut.println(String.format("%d a %d: no hay camino", s, t));
+                         iguales &= !bellman.existeCaminoHasta(t);
+                         continue;
+                    }
+                    StdOut.print(String.format("%d a %d (%5.2f): ", s, t, floyd.dist(s, t)));
+                    double total = 0.0;
+                    ArrayList<DirectedEdge> camino = floyd.path(s, t);
+                    for (DirectedEdge e : camino) {
+                         StdOut.print(e + "  ");
+                         total += e.weight();
+                    }
+                    StdOut.println();
+                    iguales &= (Math.abs(total - floyd.dist(s, t)) < 1e-9)
+                            && (Math.abs(bellman.caminoCostoMinimo(t) - floyd.dist(s, t)) < 1e-9);
+               }
+          }
+          StdOut.println();
+          StdOut.println(String.format("Floyd y Bellman-Ford encontraron los mismos costos: %B", iguales));
+     }
 }
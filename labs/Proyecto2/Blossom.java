@@ -0,0 +1,414 @@
+/**
+ * Algoritmo de flores (blossom) de Edmonds para obtener un apareamiento
+ * perfecto de costo minimo exacto.
+ * Dado un grafo G no dirigido, completo y con numero par de vertices, se
+ * busca un apareamiento de peso maximo con pesos W - costo, donde W es
+ * mayor que todos los costos. Como todos los pesos son positivos y el
+ * grafo es completo, el apareamiento de peso maximo es perfecto, y entre
+ * los perfectos es el de costo minimo.
+ *
+ * Se usa la version primal-dual en O(V^3): se mantienen los potenciales
+ * de vertices y flores, la holgura minima hacia cada vertice externo y
+ * las flores como listas de sub-flores. Los lados entre vertices o flores
+ * se guardan en matrices primitivas de (2V+1) x (2V+1).
+ *
+ * Los potenciales son enteros, asi que los costos se convierten a long:
+ * si todos son enteros se usan tal cual, si no se multiplican por 10^6 y
+ * se redondean.
+ *
+ * @author Adolfo Jeritson.
+ * @author Gianni Manilia.
+ */
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class Blossom {
+    private static final long INFINITO = Long.MAX_VALUE;
+    private ArrayList<Edge> apPerf;
+
+    private int    n, nx, N;        // vertices, vertices + flores, ancho de fila
+    private int[]  gu, gv;          // lado [x][y]: extremos originales
+    private long[] gw;              // lado [x][y]: peso, 0 si no hay lado
+    private long[] lab;             // potenciales
+    private int[]  match, slack, st, pa, S, vis;
+    private int[]  flowerFrom;      // flowerFrom[b*(n+1) + x] = sub-flor de b que contiene a x
+    private int[][] flower;         // sub-flores de cada flor, empezando por la base
+    private int[]  tamFlor;
+    private int    marca;
+    private int[]  cola;
+    private int    frente, fin;
+
+    /**
+     * Inicializacion para el algoritmo de flores.
+     * Convierte los costos a pesos enteros y calcula el apareamiento.
+     *
+     * @param G Grafo a encontrar APCM.
+     *
+     * @throws IllegalArgumentException si el grafo no tiene apareamiento
+     *         perfecto.
+     */
+    public Blossom(EdgeWeightedGraph G) {
+        n = G.V();
+        N = 2 * n + 1;
+        ArrayList<Edge> lados = G.edges();
+
+        double escala = 1.0;
+        for (Edge e : lados) {
+            double c = e.weight();
+            if (c != Double.POSITIVE_INFINITY && c != Math.rint(c)) {
+                escala = 1e6;
+                break;
+            }
+        }
+        long cmax = 0;
+        for (Edge e : lados) {
+            if (e.weight() != Double.POSITIVE_INFINITY)
+                cmax = Math.max(cmax, Math.round(e.weight() * escala));
+        }
+
+        // Lado mas barato entre cada par
+        Edge[] ladoPar = new Edge[(n + 1) * (n + 1)];
+        gu = new int[N * N];
+        gv = new int[N * N];
+        gw = new long[N * N];
+        for (int u = 1; u <= n; u++) {
+            for (int v = 1; v <= n; v++) {
+                gu[u * N + v] = u;
+                gv[u * N + v] = v;
+            }
+        }
+        for (Edge e : lados) {
+            int u = e.either() + 1;
+            int v = e.other(u - 1) + 1;
+            if (u == v || e.weight() == Double.POSITIVE_INFINITY) continue;
+            long w = cmax + 1 - Math.round(e.weight() * escala);
+            if (w > gw[u * N + v]) {
+                gw[u * N + v] = gw[v * N + u] = w;
+                ladoPar[u * (n + 1) + v] = ladoPar[v * (n + 1) + u] = e;
+            }
+        }
+
+        lab = new long[N];
+        match = new int[N];
+        slack = new int[N];
+        st = new int[N];
+        pa = new int[N];
+        S = new int[N];
+        vis = new int[N];
+        flowerFrom = new int[N * (n + 1)];
+        flower = new int[N][];
+        tamFlor = new int[N];
+        cola = new int[Math.max(1, n)];
+
+        int pares = resolver();
+        if (2 * pares != n)
+            throw new IllegalArgumentException("El grafo no tiene apareamiento perfecto");
+
+        apPerf = new ArrayList<Edge>(pares);
+        for (int u = 1; u <= n; u++) {
+            if (match[u] > u)
+                apPerf.add(ladoPar[u * (n + 1) + match[u]]);
+        }
+    }
+
+    public ArrayList<Edge> apareamiento() {
+        return apPerf;
+    }
+
+    // Holgura del lado [x][y]
+    private long delta(int x, int y) {
+        int p = x * N + y;
+        return lab[gu[p]] + lab[gv[p]] - gw[p] * 2;
+    }
+
+    private void copiarLado(int x, int y, int desdeX, int desdeY) {
+        int p = x * N + y, q = desdeX * N + desdeY;
+        gu[p] = gu[q];
+        gv[p] = gv[q];
+        gw[p] = gw[q];
+    }
+
+    private void encolar(int x) {
+        if (x <= n) {
+            if (fin == cola.length) {
+                if (frente > 0) {
+                    System.arraycopy(cola, frente, cola, 0, fin - frente);
+                    fin -= frente;
+                    frente = 0;
+                } else {
+                    cola = Arrays.copyOf(cola, 2 * cola.length);
+                }
+            }
+            cola[fin++] = x;
+        } else {
+            for (int i = 0; i < tamFlor[x]; i++)
+                encolar(flower[x][i]);
+        }
+    }
+
+    private void updateSlack(int u, int x) {
+        if (slack[x] == 0 || delta(u, x) < delta(slack[x], x))
+            slack[x] = u;
+    }
+
+    private void setSlack(int x) {
+        slack[x] = 0;
+        for (int u = 1; u <= n; u++) {
+            if (gw[u * N + x] > 0 && st[u] != x && S[st[u]] == 0)
+                updateSlack(u, x);
+        }
+    }
+
+    private void setSt(int x, int b) {
+        st[x] = b;
+        if (x > n) {
+            for (int i = 0; i < tamFlor[x]; i++)
+                setSt(flower[x][i], b);
+        }
+    }
+
+    private void invertir(int[] a, int desde, int hasta) {
+        for (int i = desde, j = hasta - 1; i < j; i++, j--) {
+            int t = a[i]; a[i] = a[j]; a[j] = t;
+        }
+    }
+
+    // Posicion de xr en la flor b, dejando un camino de largo par hasta la base
+    private int getPr(int b, int xr) {
+        int pr = 0;
+        while (flower[b][pr] != xr) pr++;
+        if (pr % 2 == 1) {
+            invertir(flower[b], 1, tamFlor[b]);
+            return tamFlor[b] - pr;
+        }
+        return pr;
+    }
+
+    private void setMatch(int u, int v) {
+        int p = u * N + v;
+        match[u] = gv[p];
+        if (u > n) {
+            int xr = flowerFrom[u * (n + 1) + gu[p]];
+            int pr = getPr(u, xr);
+            for (int i = 0; i < pr; i++)
+                setMatch(flower[u][i], flower[u][i ^ 1]);
+            setMatch(xr, v);
+            // La nueva base queda de primera
+            int[] f = flower[u];
+            int[] rotada = new int[f.length];
+            int t = tamFlor[u];
+            for (int i = 0; i < t; i++)
+                rotada[i] = f[(i + pr) % t];
+            flower[u] = rotada;
+        }
+    }
+
+    private void augment(int u, int v) {
+        while (true) {
+            int xnv = st[match[u]];
+            setMatch(u, v);
+            if (xnv == 0) return;
+            setMatch(xnv, st[pa[xnv]]);
+            u = st[pa[xnv]];
+            v = xnv;
+        }
+    }
+
+    private int getLca(int u, int v) {
+        marca++;
+        while (u != 0 || v != 0) {
+            if (u != 0) {
+                if (vis[u] == marca) return u;
+                vis[u] = marca;
+                u = st[match[u]];
+                if (u != 0) u = st[pa[u]];
+            }
+            int t = u; u = v; v = t;
+        }
+        return 0;
+    }
+
+    private void addBlossom(int u, int lca, int v) {
+        int b = n + 1;
+        while (b <= nx && st[b] != 0) b++;
+        if (b > nx) nx++;
+        lab[b] = 0;
+        S[b] = 0;
+        match[b] = match[lca];
+        if (flower[b] == null) flower[b] = new int[n + 1];
+        int[] f = flower[b];
+        int t = 0;
+        f[t++] = lca;
+        for (int x = u, y; x != lca; x = st[pa[y]]) {
+            f[t++] = x;
+            f[t++] = y = st[match[x]];
+            encolar(y);
+        }
+        invertir(f, 1, t);
+        for (int x = v, y; x != lca; x = st[pa[y]]) {
+            f[t++] = x;
+            f[t++] = y = st[match[x]];
+            encolar(y);
+        }
+        tamFlor[b] = t;
+        setSt(b, b);
+        for (int x = 1; x <= nx; x++)
+            gw[b * N + x] = gw[x * N + b] = 0;
+        int filaB = b * (n + 1);
+        for (int x = 1; x <= n; x++)
+            flowerFrom[filaB + x] = 0;
+        for (int i = 0; i < t; i++) {
+            int xs = f[i];
+            for (int x = 1; x <= nx; x++) {
+                if (gw[b * N + x] == 0 || delta(xs, x) < delta(b, x)) {
+                    copiarLado(b, x, xs, x);
+                    copiarLado(x, b, x, xs);
+                }
+            }
+            int filaXs = xs * (n + 1);
+            for (int x = 1; x <= n; x++) {
+                if (flowerFrom[filaXs + x] != 0)
+                    flowerFrom[filaB + x] = xs;
+            }
+        }
+        setSlack(b);
+    }
+
+    private void expandBlossom(int b) {
+        for (int i = 0; i < tamFlor[b]; i++)
+            setSt(flower[b][i], flower[b][i]);
+        int xr = flowerFrom[b * (n + 1) + gu[b * N + pa[b]]];
+        int pr = getPr(b, xr);
+        for (int i = 0; i < pr; i += 2) {
+            int xs = flower[b][i], xns = flower[b][i + 1];
+            pa[xs] = gu[xns * N + xs];
+            S[xs] = 1;
+            S[xns] = 0;
+            slack[xs] = 0;
+            setSlack(xns);
+            encolar(xns);
+        }
+        S[xr] = 1;
+        pa[xr] = pa[b];
+        for (int i = pr + 1; i < tamFlor[b]; i++) {
+            int xs = flower[b][i];
+            S[xs] = -1;
+            setSlack(xs);
+        }
+        st[b] = 0;
+    }
+
+    // Procesa un lado ajustado; retorna true si se aumento el apareamiento
+    private boolean onFoundEdge(int x, int y) {
+        int p = x * N + y;
+        int u = st[gu[p]], v = st[gv[p]];
+        if (S[v] == -1) {
+            pa[v] = gu[p];
+            S[v] = 1;
+            int nu = st[match[v]];
+            slack[v] = slack[nu] = 0;
+            S[nu] = 0;
+            encolar(nu);
+        } else if (S[v] == 0) {
+            int lca = getLca(u, v);
+            if (lca == 0) {
+                augment(u, v);
+                augment(v, u);
+                return true;
+            }
+            addBlossom(u, lca, v);
+        }
+        return false;
+    }
+
+    // Una fase: busca un camino de aumento ajustando los potenciales
+    private boolean matching() {
+        Arrays.fill(S, 1, nx + 1, -1);
+        Arrays.fill(slack, 1, nx + 1, 0);
+        frente = fin = 0;
+        for (int x = 1; x <= nx; x++) {
+            if (st[x] == x && match[x] == 0) {
+                pa[x] = 0;
+                S[x] = 0;
+                encolar(x);
+            }
+        }
+        if (frente == fin) return false;
+        while (true) {
+            while (frente < fin) {
+                int u = cola[frente++];
+                if (S[st[u]] == 1) continue;
+                for (int v = 1; v <= n; v++) {
+                    if (gw[u * N + v] > 0 && st[u] != st[v]) {
+                        if (delta(u, v) == 0) {
+                            if (onFoundEdge(u, v)) return true;
+                        } else {
+                            updateSlack(u, st[v]);
+                        }
+                    }
+                }
+            }
+            long d = INFINITO;
+            for (int b = n + 1; b <= nx; b++) {
+                if (st[b] == b && S[b] == 1)
+                    d = Math.min(d, lab[b] / 2);
+            }
+            for (int x = 1; x <= nx; x++) {
+                if (st[x] == x && slack[x] != 0) {
+                    if (S[x] == -1)     d = Math.min(d, delta(slack[x], x));
+                    else if (S[x] == 0) d = Math.min(d, delta(slack[x], x) / 2);
+                }
+            }
+            for (int u = 1; u <= n; u++) {
+                if (S[st[u]] == 0) {
+                    if (lab[u] <= d) return false;
+                    lab[u] -= d;
+                } else if (S[st[u]] == 1) {
+                    lab[u] += d;
+                }
+            }
+            for (int b = n + 1; b <= nx; b++) {
+                if (st[b] == b) {
+                    if (S[st[b]] == 0)      lab[b] += d * 2;
+                    else if (S[st[b]] == 1) lab[b] -= d * 2;
+                }
+            }
+            frente = fin = 0;
+            for (int x = 1; x <= nx; x++) {
+                if (st[x] == x && slack[x] != 0 && st[slack[x]] != x && delta(slack[x], x) == 0) {
+                    if (onFoundEdge(slack[x], x)) return true;
+                }
+            }
+            for (int b = n + 1; b <= nx; b++) {
+                if (st[b] == b && S[b] == 1 && lab[b] == 0)
+                    expandBlossom(b);
+            }
+        }
+    }
+
+    // Calcula el apareamiento de peso maximo; retorna la cantidad de pares
+    private int resolver() {
+        nx = n;
+        for (int u = 0; u <= n; u++)
+            st[u] = u;
+        long wmax = 0;
+        for (int u = 1; u <= n; u++) {
+            flowerFrom[u * (n + 1) + u] = u;
+            for (int v = 1; v <= n; v++)
+                wmax = Math.max(wmax, gw[u * N + v]);
+        }
+        for (int u = 1; u <= n; u++)
+            lab[u] = wmax;
+        int pares = 0;
+        while (matching())
+            pares++;
+        return pares;
+    }
+
+    public static void main(String[] args) {
+        In in = new In(args[0]);
+        EdgeWeightedGraph G = new EdgeWeightedGraph(in);
+        Blossom blossom = new Blossom(G);
+        StdOut.println(blossom.apPerf);
+    }
+}
@@ -0,0 +1,202 @@
+/**
+ * Cliente para comparar el tiempo de Floyd y FloydPrimitivo sobre
+ * instancias URPP. Para cada instancia se hacen algunas corridas de
+ * calentamiento de la JVM y luego se promedia el tiempo de construccion
+ * de cada implementacion. Tambien se verifica que ambas den los mismos
+ * costos para todo par de vertices, y que cada camino recorra lados
+ * reales del grafo cuyos costos sumen la distancia reportada.
+ *
+ * Con la opcion -p se mide en cambio la aceleracion de FloydPrimitivo
+ * paralelo con 1, 2, 4, ... hasta <hilos> hilos, verificando que el
+ * resultado sea identico al secuencial.
+ *
+ * Ejecucion: java ComparaFloyd <repeticiones> <instancia> [<instancia> ...]
+ *            java ComparaFloyd -p <hilos> <repeticiones> <instancia> [...]
+ *
+ * @author Adolfo Jeritson.
+ * @author Gianni Manilia.
+ */
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class ComparaFloyd {
+    private static final int CALENTAMIENTO = 3;
+
+    /**
+     * Lee el grafo completo G (lados requeridos y no requeridos) de una
+     * instancia URPP.
+     *
+     * @param archivo  Ruta de la instancia.
+     *
+     * @return Grafo de la instancia.
+     */
+    public static EdgeWeightedGraph leerInstancia(String archivo) {
+        In in = new In(archivo);
+        in.readLine();                      // Nombre
+        in.readLine();                      // Componentes
+        in.readString();                    // Vertices
+        in.readString();                    // :
+
+        int V = in.readInt();
+        in.readString();                    // Aristas red
+        in.readString();                    // :
+        int Lr = in.readInt();
+        in.readString();                    // Aristas no req
+        in.readString();                    // :
+        int Lnr = in.readInt();
+
+        in.readString();                    // Lista arista
+        in.readString();                    // :
+
+        String[] lines = in.readAllLines();
+        EdgeWeightedGraph G = new EdgeWeightedGraph(V);
+        for (int i = 1; i <= Lr+Lnr+1; i++) {
+            // La linea Lr+1 es el encabezado de las aristas no requeridas
+            if (i == Lr+1) continue;
+            lines[i] = lines[i].replace('(', ' ');
+            lines[i] = lines[i].replace(')', ' ');
+            lines[i] = lines[i].replace(',', ' ');
+            lines[i] = lines[i].trim();
+            String[] tokens = lines[i].split("\\s+");
+
+            int v = Integer.parseInt(tokens[0]);
+            int w = Integer.parseInt(tokens[1]);
+            double c = Double.parseDouble(tokens[3]);
+            G.addEdge(new Edge(v-1, w-1, c));
+        }
+        return G;
+    }
+
+    // Tiempo promedio en ms de construir FloydPrimitivo con los hilos dados
+    private static double tiempoPrimitivo(EdgeWeightedGraph G, int hilos, int repeticiones) {
+        for (int r = 0; r < CALENTAMIENTO; r++)
+            new FloydPrimitivo(G, hilos);
+        long inicio = System.nanoTime();
+        for (int r = 0; r < repeticiones; r++)
+            new FloydPrimitivo(G, hilos);
+        return (System.nanoTime() - inicio) / 1e6 / repeticiones;
+    }
+
+    // Costo del lado mas barato entre cada par de vertices, infinito si no hay
+    private static double[] ladosMasBaratos(EdgeWeightedGraph G) {
+        int V = G.V();
+        double[] menor = new double[V * V];
+        Arrays.fill(menor, Double.POSITIVE_INFINITY);
+        for (Edge e : G.edges()) {
+            int v = e.either();
+            int w = e.other(v);
+            if (e.weight() < menor[v*V + w]) {
+                menor[v*V + w] = e.weight();
+                menor[w*V + v] = e.weight();
+            }
+        }
+        return menor;
+    }
+
+    // Verifica que el camino vaya de s a t por lados del grafo con su
+    // costo, y que la suma de los costos sea la distancia
+    private static boolean caminoValido(double[] menor, int V, int s, int t,
+                                        ArrayList<Edge> camino, double dist) {
+        if (camino == null)
+            return false;
+        int u = s;
+        double total = 0.0;
+        for (Edge e : camino) {
+            int v = e.either();
+            int w = e.other(v);
+            if (u != v && u != w)
+                return false;
+            int sig = (u == v) ? w : v;
+            if (menor[u*V + sig] != e.weight())
+                return false;
+            total += e.weight();
+            u = sig;
+        }
+        return u == t && Math.abs(total - dist) <= 1e-9 * Math.max(1.0, dist);
+    }
+
+    // Verifica que ambas matrices tengan los mismos costos y caminos
+    private static boolean identicos(FloydPrimitivo a, FloydPrimitivo b, int V) {
+        for (int s = 0; s < V; s++) {
+            for (int t = 0; t < V; t++) {
+                if (Double.doubleToRawLongBits(a.dist(s, t)) != Double.doubleToRawLongBits(b.dist(s, t)))
+                    return false;
+                if (a.dist(s, t) == Double.MAX_VALUE) continue;
+                if (a.path(s, t).size() != b.path(s, t).size())
+                    return false;
+                // El primer lado del camino es el siguiente vertice guardado
+                if (s != t && a.path(s, t).get(0).other(s) != b.path(s, t).get(0).other(s))
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Mide la aceleracion de la version paralela sobre cada instancia.
+     */
+    private static void escalamiento(int maxHilos, int repeticiones, String[] archivos, int desde) {
+        StdOut.println("instancia    V  hilos  tiempo(ms)  aceleracion  identico");
+        for (int a = desde; a < archivos.length; a++) {
+            EdgeWeightedGraph G = leerInstancia(archivos[a]);
+            String nombre = archivos[a].substring(archivos[a].lastIndexOf('/') + 1);
+            FloydPrimitivo secuencial = new FloydPrimitivo(G);
+            double base = tiempoPrimitivo(G, 1, repeticiones);
+            for (int hilos = 1; hilos <= maxHilos; hilos *= 2) {
+                double t = (hilos == 1) ? base : tiempoPrimitivo(G, hilos, repeticiones);
+                boolean iguales = identicos(secuencial, new FloydPrimitivo(G, hilos), G.V());
+                StdOut.println(String.format("%-9s %4d %6d %11.1f %12.2f  %B",
+                    nombre, G.V(), hilos, t, base / t, iguales));
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        if (args[0].equals("-p")) {
+            escalamiento(Integer.parseInt(args[1]), Integer.parseInt(args[2]), args, 3);
+            return;
+        }
+        int repeticiones = Integer.parseInt(args[0]);
+        StdOut.println("instancia    V      E   Floyd(ms)  Primitivo(ms)  mismosCostos  malosFloyd  malosPrimitivo");
+        for (int a = 1; a < args.length; a++) {
+            EdgeWeightedGraph G = leerInstancia(args[a]);
+
+            for (int r = 0; r < CALENTAMIENTO; r++) {
+                new Floyd(G);
+                new FloydPrimitivo(G);
+            }
+
+            Floyd floyd = null;
+            long inicio = System.nanoTime();
+            for (int r = 0; r < repeticiones; r++)
+                floyd = new Floyd(G);
+            double tFloyd = (System.nanoTime() - inicio) / 1e6 / repeticiones;
+
+            FloydPrimitivo primitivo = null;
+            inicio = System.nanoTime();
+            for (int r = 0; r < repeticiones; r++)
+                primitivo = new FloydPrimitivo(G);
+            double tPrimitivo = (System.nanoTime() - inicio) / 1e6 / repeticiones;
+
+            boolean iguales = true;
+            int malosFloyd = 0, malosPrimitivo = 0;
+            double[] menor = ladosMasBaratos(G);
+            for (int s = 0; s < G.V(); s++) {
+                for (int t = 0; t < G.V(); t++) {
+                    double d = primitivo.dist(s, t);
+                    if (floyd.dist(s, t) != d)
+                        iguales = false;
+                    if (d == Double.MAX_VALUE) continue;
+                    if (!caminoValido(menor, G.V(), s, t, floyd.path(s, t), d))
+                        malosFloyd++;
+                    if (!caminoValido(menor, G.V(), s, t, primitivo.path(s, t), d))
+                        malosPrimitivo++;
+                }
+            }
+
+            String nombre = args[a].substring(args[a].lastIndexOf('/') + 1);
+            StdOut.println(String.format("%-9s %4d %6d %11.1f %14.1f  %-12B %11d %15d",
+                nombre, G.V(), G.E(), tFloyd, tPrimitivo, iguales, malosFloyd, malosPrimitivo));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * Implementación del algoritmo de Dijkstra con multiples fuentes para
+ * obtener los caminos de costo minimo desde un conjunto de vertices
+ * terminales hacia el resto del grafo.
+ *
+ * A diferencia de Floyd, no se calcula la matriz completa V x V, solo
+ * se recorre el grafo desde las fuentes pedidas. Todas las fuentes
+ * comienzan con costo cero, por lo que dist(t) es el costo minimo desde
+ * cualquiera de ellas hasta t y fuente(t) indica desde cual se llega.
+ *
+ * @author Adolfo Jeritson.
+ * @author Gianni Manilia.
+ */
+import java.util.ArrayList;
+import java.util.Collections;
+
+public class DijkstraTerminales {
+    private double[] distTo;        // distTo[v] = costo minimo desde las fuentes a v
+    private Edge[]   edgeTo;        // edgeTo[v] = ultimo lado del camino a v
+    private int[]    fuente;        // fuente[v] = fuente desde la que se llega a v
+    private ColaPrioridadIndexada pq;
+
+    /**
+     * Calcula los caminos de costo minimo desde un unico vertice.
+     *
+     * @param G     Grafo para buscar caminos.
+     * @param s     Vertice fuente.
+     */
+    public DijkstraTerminales(EdgeWeightedGraph G, int s) {
+        this(G, Collections.singletonList(s));
+    }
+
+    /**
+     * Calcula los caminos de costo minimo desde un conjunto de fuentes.
+     *
+     * @param G        Grafo para buscar caminos.
+     * @param fuentes  Vertices fuente, todos con costo inicial cero.
+     *
+     * @throws IllegalArgumentException si algun lado tiene costo negativo.
+     */
+    public DijkstraTerminales(EdgeWeightedGraph G, Iterable<Integer> fuentes) {
+        for (Edge e : G.edges()) {
+            if (e.weight() < 0)
+                throw new IllegalArgumentException("No pueden haber lados con costos negativos");
+        }
+
+        distTo = new double[G.V()];
+        edgeTo = new Edge[G.V()];
+        fuente = new int[G.V()];
+        for (int v = 0; v < G.V(); v++) {
+            distTo[v] = Double.POSITIVE_INFINITY;
+            fuente[v] = -1;
+        }
+
+        pq = new ColaPrioridadIndexada(G.V());
+        for (int s : fuentes) {
+            distTo[s] = 0.0;
+            fuente[s] = s;
+            if (!pq.contains(s))
+                pq.insert(s, distTo[s]);
+        }
+
+        while (!pq.isEmpty()) {
+            int v = pq.delMin();
+            for (Edge e : G.adj(v))
+                relax(e, v);
+        }
+    }
+
+    // Relaja el lado e saliendo desde v
+    private void relax(Edge e, int v) {
+        int w = e.other(v);
+        if (distTo[w] > distTo[v] + e.weight()) {
+            distTo[w] = distTo[v] + e.weight();
+            edgeTo[w] = e;
+            fuente[w] = fuente[v];
+            if (pq.contains(w)) pq.decreaseKey(w, distTo[w]);
+            else                pq.insert(w, distTo[w]);
+        }
+    }
+
+    /**
+     * Retorna el costo del camino minimo desde las fuentes hasta t.
+     * Al igual que Floyd, si no existe camino se retorna Double.MAX_VALUE.
+     *
+     * @param t  Nodo del grafo.
+     *
+     * @return costo del camino minimo, Double.MAX_VALUE si no existe.
+     */
+    public double dist(int t) {
+        if (distTo[t] == Double.POSITIVE_INFINITY)
+            return Double.MAX_VALUE;
+        return distTo[t];
+    }
+
+    /**
+     * Indica si existe un camino desde alguna fuente hasta t.
+     *
+     * @param t  Nodo del grafo.
+     *
+     * @return true si existe camino, false en caso contrario.
+     */
+    public boolean hasPathTo(int t) {
+        return distTo[t] < Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Retorna la fuente desde la cual se alcanza t con costo minimo.
+     *
+     * @param t  Nodo del grafo.
+     *
+     * @return vertice fuente, -1 si t no es alcanzable.
+     */
+    public int fuente(int t) {
+        return fuente[t];
+    }
+
+    /**
+     * Retorna el camino de costo minimo desde la fuente hasta t, en el
+     * mismo formato que se asocia a los lados con asociarLado: una lista
+     * de lados nuevos, ordenada desde la fuente, con el costo de cada lado
+     * original del grafo.
+     *
+     * @param t  Nodo del grafo.
+     *
+     * @return Lista con los lados del camino, null si no hay camino.
+     */
+    public ArrayList<Edge> path(int t) {
+        if (!hasPathTo(t))
+            return null;
+        ArrayList<Edge> camino = new ArrayList<Edge>();
+        int x = t;
+        while (edgeTo[x] != null) {
+            Edge e = edgeTo[x];
+            int anterior = e.other(x);
+            camino.add(new Edge(anterior, x, e.weight()));
+            x = anterior;
+        }
+        Collections.reverse(camino);
+        return camino;
+    }
+}
@@ -27,7 +27,6 @@ public class Edge implements Comparable<Edge> {
     private final int v;
     private final int w;
     private final double weight;
-    public boolean isUsed;
     private ArrayList<Edge> ccmAsoc;
 
     /**
@@ -48,7 +47,6 @@ public class Edge implements Comparable<Edge> {
         this.v = v;
         this.w = w;
         this.weight = weight;
-        isUsed = false;
     }
 
     public void asociarLado(ArrayList<Edge> listaLados) {
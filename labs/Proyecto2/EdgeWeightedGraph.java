@@ -311,41 +311,74 @@ public class EdgeWeightedGraph {
 
     /**
      * Calcula el ciclo euleriano de un grafo, si es que existe.
+     * Se usa el algoritmo de Hierholzer sobre arreglos de indices: cada
+     * lado recibe un indice, y la lista de cada vertice guarda los
+     * indices de sus lados en orden creciente. Un cursor por vertice
+     * indica el siguiente lado por revisar, y los lados usados se marcan
+     * en un arreglo local, asi que los objetos Edge no se modifican y el
+     * mismo lado puede estar varias veces en el grafo. Toma tiempo
+     * proporcional a <em>V</em> + <em>E</em>.
      * 
-     * @return ciclo euleriano
+     * @return ciclo euleriano, null si no todos los lados estan en el ciclo
      */
     public Stack<Integer> getCicloEuleriano() {
 
-        // Crear una copia local de la lista de adyacencias para no modificarla
-        // Se usa la clase Edge para evitar recorrer un mismo lado dos veces.
-        Queue<Edge>[] adj = (Queue<Edge>[]) new Queue[V];
-        for (int v = 0; v < V; v++)
-            adj[v] = new Queue<Edge>();
-
-        for (int k = 0; k < V; k++) {   
-            for (Edge e : this.adj(k)) {
-                int v = e.either();
+        // Los lados se numeran por su extremo menor y su posicion en la
+        // lista de ese extremo; los lazos aparecen dos veces seguidas
+        int[] extremoV = new int[E];
+        int[] extremoW = new int[E];
+        int m = 0;
+        for (int v = 0; v < V; v++) {
+            boolean lazoPendiente = false;
+            for (Edge e : adj[v]) {
                 int w = e.other(v);
-                adj[v].enqueue(e);
-                adj[w].enqueue(e);
+                if (w < v) continue;
+                if (w == v) {
+                    lazoPendiente = !lazoPendiente;
+                    if (!lazoPendiente) continue;
+                }
+                extremoV[m] = v;
+                extremoW[m] = w;
+                m++;
             }
         }
-        
+
+        // Lista compacta de lados de cada vertice, en orden creciente
+        int[] inicio = new int[V + 1];
+        for (int k = 0; k < m; k++) {
+            inicio[extremoV[k] + 1]++;
+            inicio[extremoW[k] + 1]++;
+        }
+        for (int v = 0; v < V; v++)
+            inicio[v + 1] += inicio[v];
+        int[] cursor = new int[V];
+        System.arraycopy(inicio, 0, cursor, 0, V);
+        int[] lados = new int[2 * m];
+        for (int k = 0; k < m; k++) {
+            lados[cursor[extremoV[k]]++] = k;
+            lados[cursor[extremoW[k]]++] = k;
+        }
+        System.arraycopy(inicio, 0, cursor, 0, V);
+        boolean[] usado = new boolean[m];
+
         // inicializamos con un vertice que no este aislado
+        cycle = new Stack<Integer>();
         int s = nonIsolatedVertex();
-        Stack<Integer> stack = new Stack<Integer>();
-        stack.push(s);
+        if (s == -1)
+            return null;
+        int[] stack = new int[m + 1];
+        int tope = 0;
+        stack[tope++] = s;
 
         // realizamos la busqueda de los lados
-        cycle = new Stack<Integer>();
-        while (!stack.isEmpty()) {
-            int v = stack.pop();
-            while (!adj[v].isEmpty()) {
-                Edge edge = adj[v].dequeue();
-                if (edge.isUsed) continue;
-                edge.isUsed = true;
-                stack.push(v);
-                v = edge.other(v);
+        while (tope > 0) {
+            int v = stack[--tope];
+            while (cursor[v] < inicio[v + 1]) {
+                int k = lados[cursor[v]++];
+                if (usado[k]) continue;
+                usado[k] = true;
+                stack[tope++] = v;
+                v = (extremoV[k] == v) ? extremoW[k] : extremoV[k];
             }
             // agregamos vertice sin mas lados de salida
             cycle.push(v);
@@ -359,51 +392,82 @@ public class EdgeWeightedGraph {
     }
 
     /**
-     * Obtener la lista de componentes fuertemente conexas del grafo G
+     * Etiqueta cada vertice con el numero de su componente conexa.
+     * Se hace un recorrido BFS desde cada vertice aun sin etiquetar, por
+     * lo que toma tiempo proporcional a <em>V</em> + <em>E</em>. Los
+     * vertices aislados forman su propia componente.
      *
-     * @return Lista de listas con las componentes conexas
+     * @return arreglo id donde id[v] es la componente de v, numeradas de
+     *         0 a k-1 en el orden en que se encuentran
      */
-    public HashSet<HashSet<Integer>> getComponentesConexas(){
-        // Calcular matriz ady
-        int[][] mAdy = new int[V][V];
-        for (int i = 0; i < V; i++){
-            for (int j = 0; j < V; j++) {
-                if (containsEdge(i, j)) 
-                    mAdy[i][j] = 1;
-                else
-                    mAdy[i][j] = 0;
-                
-                // Suma boolena con matriz Identidad.
-                if (i == j)
-                    mAdy[i][j] = 1 | mAdy[i][j];
-            }
-        }
-        
-        // Roy-Warshall
-        for (int k = 0; k < V; k++) {
-            for (int i = 0; i < V; i++) {
-                for (int j = 0; j < V; j++) {
-                    mAdy[i][j] = mAdy[i][j] | (mAdy[i][k] & mAdy[k][j]);
+    public int[] getIdComponentes() {
+        int[] id = new int[V];
+        int[] cola = new int[V];
+        for (int v = 0; v < V; v++)
+            id[v] = -1;
+
+        int nComp = 0;
+        for (int s = 0; s < V; s++) {
+            if (id[s] != -1) continue;
+            int ini = 0, fin = 0;
+            id[s] = nComp;
+            cola[fin++] = s;
+            while (ini < fin) {
+                int v = cola[ini++];
+                for (Edge e : adj[v]) {
+                    int w = e.other(v);
+                    if (id[w] == -1) {
+                        id[w] = nComp;
+                        cola[fin++] = w;
+                    }
                 }
             }
+            nComp++;
         }
-        
-        // Algoritmo para Componentes Conexas
-        ArrayList<Integer> resto = new ArrayList<Integer>();
-        HashSet<HashSet<Integer>> compCon = new HashSet<HashSet<Integer>>();
-        for (int i = 0; i < V; i++)
-            resto.add(i);
-
-        while (!resto.isEmpty()) {
-            HashSet<Integer> comp = new HashSet<Integer>();
-            int v = resto.get(0);
-            for (int w = 0; w < V; w++) {
-                if (mAdy[v][w] == 1)  
-                    comp.add(w);
-            }
-            compCon.add(comp);
-            resto.removeAll(comp);
+        return id;
+    }
+
+    /**
+     * Retorna la cantidad de componentes dado el arreglo de etiquetas.
+     *
+     * @param  id etiquetas calculadas por getIdComponentes()
+     * @return cantidad de componentes conexas
+     */
+    public static int numComponentes(int[] id) {
+        int n = 0;
+        for (int c : id) {
+            if (c + 1 > n)
+                n = c + 1;
         }
+        return n;
+    }
+
+    /**
+     * Obtener las componentes conexas como listas de vertices.
+     *
+     * @return lista donde la posicion c tiene los vertices de la
+     *         componente c, en orden creciente
+     */
+    public ArrayList<ArrayList<Integer>> getListaComponentes() {
+        int[] id = getIdComponentes();
+        int k = numComponentes(id);
+        ArrayList<ArrayList<Integer>> comps = new ArrayList<ArrayList<Integer>>(k);
+        for (int c = 0; c < k; c++)
+            comps.add(new ArrayList<Integer>());
+        for (int v = 0; v < V; v++)
+            comps.get(id[v]).add(v);
+        return comps;
+    }
+
+    /**
+     * Obtener la lista de componentes conexas del grafo G
+     *
+     * @return Lista de listas con las componentes conexas
+     */
+    public HashSet<HashSet<Integer>> getComponentesConexas(){
+        HashSet<HashSet<Integer>> compCon = new HashSet<HashSet<Integer>>();
+        for (ArrayList<Integer> comp : getListaComponentes())
+            compCon.add(new HashSet<Integer>(comp));
         return compCon;
     }
 
@@ -0,0 +1,234 @@
+/**
+ * Implementación del algoritmo de Floyd-Warshall sobre arreglos primitivos.
+ *
+ * La matriz de costos se guarda en un arreglo plano double[V*V] y la de
+ * caminos en un int[V*V] con el siguiente vertice del camino (next-hop),
+ * por lo que no se crea ningun objeto Edge durante el calculo. El ciclo
+ * sobre k se recorre por bloques de TAM_BLOQUE x TAM_BLOQUE, de forma que
+ * cada bloque se mantiene en cache mientras se actualiza.
+ *
+ * Opcionalmente, en cada ronda de k los bloques independientes se
+ * reparten entre los hilos de un ForkJoinPool. Cada bloque solo lee
+ * bloques ya terminados en la fase anterior de la ronda, por lo que el
+ * resultado es identico bit a bit al de la version secuencial.
+ *
+ * Ofrece la misma interfaz que Floyd: dist(s, t) y path(s, t).
+ *
+ * @author Adolfo Jeritson.
+ * @author Gianni Manilia.
+ */
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class FloydPrimitivo {
+    private static final int TAM_BLOQUE = 64;
+    private final double INFINITO = Double.POSITIVE_INFINITY;
+
+    private final int V;
+    private double[] dist;      // dist[i*V + j] = costo minimo de i a j
+    private int[]    next;      // next[i*V + j] = siguiente vertice de i hacia j
+    private int      nBloques;
+
+    /**
+     * Calcula los caminos de costo minimo de forma secuencial.
+     *
+     * @param G     Grafo para buscar caminos.
+     */
+    public FloydPrimitivo(EdgeWeightedGraph G) {
+        this(G, 1);
+    }
+
+    /**
+     * Inicializa las matrices y calcula los caminos de costo minimo.
+     * La diagonal tiene costo cero, cada lado del grafo se copia en ambos
+     * sentidos (si hay lados paralelos se toma el menor) y el resto de
+     * las casillas queda en infinito.
+     *
+     * @param G            Grafo para buscar caminos.
+     * @param paralelismo  Cantidad de hilos, 1 para la version secuencial.
+     *
+     * @throws IllegalArgumentException si paralelismo es menor que 1.
+     */
+    public FloydPrimitivo(EdgeWeightedGraph G, int paralelismo) {
+        if (paralelismo < 1)
+            throw new IllegalArgumentException("El paralelismo debe ser al menos 1");
+        V = G.V();
+        nBloques = (V + TAM_BLOQUE - 1) / TAM_BLOQUE;
+        dist = new double[V * V];
+        next = new int[V * V];
+        for (int i = 0; i < V; i++) {
+            for (int j = 0; j < V; j++) {
+                dist[i*V + j] = (i == j) ? 0.0 : INFINITO;
+                next[i*V + j] = (i == j) ? i : -1;
+            }
+        }
+        for (Edge e : G.edges()) {
+            int v = e.either();
+            int w = e.other(v);
+            if (v != w && e.weight() < dist[v*V + w]) {
+                dist[v*V + w] = e.weight();
+                dist[w*V + v] = e.weight();
+                next[v*V + w] = w;
+                next[w*V + v] = v;
+            }
+        }
+        if (paralelismo == 1) {
+            calcularMatriz();
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(paralelismo);
+            try {
+                calcularMatrizParalelo(pool);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Floyd-Warshall por bloques. Para cada bloque de k se actualiza primero
+     * el bloque diagonal, luego los bloques de su fila y su columna, y por
+     * ultimo el resto, que solo dependen de los anteriores.
+     */
+    private void calcularMatriz() {
+        for (int kb = 0; kb < nBloques; kb++) {
+            // Bloque diagonal
+            actualizarBloque(kb, kb, kb);
+            // Fila y columna del bloque kb
+            for (int b = 0; b < nBloques; b++) {
+                if (b != kb) {
+                    actualizarBloque(kb, b, kb);
+                    actualizarBloque(b, kb, kb);
+                }
+            }
+            // Resto de los bloques
+            for (int ib = 0; ib < nBloques; ib++) {
+                if (ib == kb) continue;
+                for (int jb = 0; jb < nBloques; jb++) {
+                    if (jb != kb)
+                        actualizarBloque(ib, jb, kb);
+                }
+            }
+        }
+    }
+
+    /**
+     * Igual que calcularMatriz, pero en cada fase los bloques se reparten
+     * por filas entre los hilos del pool. El bloque diagonal se hace
+     * secuencialmente, ya que todo lo demas depende de el.
+     */
+    private void calcularMatrizParalelo(ForkJoinPool pool) {
+        for (int kb = 0; kb < nBloques; kb++) {
+            actualizarBloque(kb, kb, kb);
+            pool.invoke(new Bloques(0, nBloques, kb, true));
+            pool.invoke(new Bloques(0, nBloques, kb, false));
+        }
+    }
+
+    /**
+     * Tarea que actualiza los bloques de las filas [ini, fin) para el
+     * bloque kb. Si filaColumna es true, solo se actualizan la fila y la
+     * columna de kb (fase 2); si no, el resto de los bloques (fase 3).
+     */
+    private class Bloques extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int ini, fin, kb;
+        private final boolean filaColumna;
+
+        Bloques(int ini, int fin, int kb, boolean filaColumna) {
+            this.ini = ini;
+            this.fin = fin;
+            this.kb = kb;
+            this.filaColumna = filaColumna;
+        }
+
+        @Override
+        protected void compute() {
+            if (fin - ini > 1) {
+                int medio = (ini + fin) >>> 1;
+                invokeAll(new Bloques(ini, medio, kb, filaColumna),
+                          new Bloques(medio, fin, kb, filaColumna));
+                return;
+            }
+            int b = ini;
+            if (filaColumna) {
+                if (b != kb) {
+                    actualizarBloque(kb, b, kb);
+                    actualizarBloque(b, kb, kb);
+                }
+            } else if (b != kb) {
+                for (int jb = 0; jb < nBloques; jb++) {
+                    if (jb != kb)
+                        actualizarBloque(b, jb, kb);
+                }
+            }
+        }
+    }
+
+    /**
+     * Relaja el bloque (ib, jb) usando como intermedios los vertices del
+     * bloque kb.
+     */
+    private void actualizarBloque(int ib, int jb, int kb) {
+        int kFin = Math.min((kb + 1) * TAM_BLOQUE, V);
+        int iFin = Math.min((ib + 1) * TAM_BLOQUE, V);
+        int jIni = jb * TAM_BLOQUE;
+        int jFin = Math.min(jIni + TAM_BLOQUE, V);
+        for (int k = kb * TAM_BLOQUE; k < kFin; k++) {
+            int filaK = k * V;
+            for (int i = ib * TAM_BLOQUE; i < iFin; i++) {
+                int filaI = i * V;
+                double dik = dist[filaI + k];
+                if (dik == INFINITO) continue;
+                int nik = next[filaI + k];
+                for (int j = jIni; j < jFin; j++) {
+                    double alt = dik + dist[filaK + j];
+                    if (alt < dist[filaI + j]) {
+                        dist[filaI + j] = alt;
+                        next[filaI + j] = nik;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Retorna el costo del camino minimo entre los vertices.
+     * En caso de que no exista un camino entre s y t, se retorna
+     * Double.MAX_VALUE, igual que Floyd.
+     *
+     * @param s  Nodo del grafo.
+     * @param t  Nodo del grafo.
+     *
+     * @return costo del camino minimo entre s y t,
+     *           Double.MAX_VALUE si el camino no existe.
+     */
+    public double dist(int s, int t) {
+        if (dist[s*V + t] == INFINITO)
+            return Double.MAX_VALUE;
+        return dist[s*V + t];
+    }
+
+    /**
+     * Retorna el camino de costo minimo entre dos vertices, siguiendo la
+     * matriz de siguientes vertices. Cada lado del camino es nuevo y tiene
+     * el costo del lado original del grafo.
+     *
+     * @param s  Nodo del grafo.
+     * @param t  Nodo del grafo.
+     *
+     * @return Lista con los lados del camino, null si no hay camino.
+     */
+    public ArrayList<Edge> path(int s, int t) {
+        if (dist[s*V + t] == INFINITO)
+            return null;
+        ArrayList<Edge> camino = new ArrayList<Edge>();
+        int u = s;
+        while (u != t) {
+            int w = next[u*V + t];
+            camino.add(new Edge(u, w, dist[u*V + w]));
+            u = w;
+        }
+        return camino;
+    }
+}
@@ -4,48 +4,28 @@
  * el algoritmo de tipo greedy encuentra un apareamiento perfecto de costo
  * minimo.
  *
+ * Los lados se copian a arreglos primitivos y se ordenan una sola vez
+ * por costo con OrdenLados. Los vertices ya apareados se marcan en un
+ * arreglo de booleanos, y se para en cuanto se tienen V/2 pares.
+ *
  * @author
  * @author
  */
 
 import java.util.ArrayList;
-import java.util.PriorityQueue;
-import java.util.Comparator;
 
 public class Greedy {
     private ArrayList<Edge>     apPerf;
-    private ArrayList<Integer>  copiaV;
 
-    /**
-     * Clase que implementa el comparador para la cola de prioridad.
-     */
-    private class EdgeComparator implements Comparator<Edge> {
-        @Override
-        public int compare(Edge a, Edge b) {
-            if      (a.weight() < b.weight()) return -1;
-            else if (a.weight() > b.weight()) return +1;
-            else                              return  0;
-        }
-    }
     /**
      * Inicializacion para el algoritmo avido.
-     * Crea la cola de prioridades con los lados y la llena.
-     * Crea una lista con los nodos del grafo.
+     * Copia los lados a arreglos primitivos, los ordena por costo y
+     * calcula el apareamiento.
      *
      * @para G Grafo a encontrar APCM.
      */
     public Greedy(EdgeWeightedGraph G) {
-        Comparator<Edge> comparator = new EdgeComparator();
-        PriorityQueue<Edge> pq = new PriorityQueue<Edge>(G.E(), comparator);
-        copiaV = new ArrayList<Integer>();
-
-        for (Edge e : G.edges()) 
-            pq.add(e);
-
-        for (int v = 0; v < G.V(); v++)
-            copiaV.add(v);
-        
-        getGreedy(G, pq);
+        getGreedy(G);
     }
 
     public ArrayList<Edge> apareamiento() {
@@ -54,22 +34,38 @@ public class Greedy {
 
     /**
      * Implementacion de algoritmo avido para hallar APCM.
+     * Se toman los lados de menor a mayor costo, y se agrega al
+     * apareamiento cada lado cuyos dos extremos esten libres. Entre lados
+     * de igual costo se toma primero el de menor indice.
      *
      * @param G Grafo a encontrar APCM.
-     * @param L Cola con los lados orden ascendente por costo.
      */
-    public ArrayList<Edge> getGreedy(EdgeWeightedGraph G, PriorityQueue<Edge> L) {
-        apPerf = new ArrayList<Edge>();
+    public ArrayList<Edge> getGreedy(EdgeWeightedGraph G) {
+        int m = G.E();
+        Edge[]   lados = new Edge[m];
+        double[] costo = new double[m];
+        int[]    extremoI = new int[m], extremoJ = new int[m];
+        int k = 0;
+        for (Edge e : G.edges()) {
+            lados[k] = e;
+            costo[k] = e.weight();
+            extremoI[k] = e.either();
+            extremoJ[k] = e.other(extremoI[k]);
+            k++;
+        }
+        int[] orden = OrdenLados.porCosto(costo, k);
 
-        while (!copiaV.isEmpty()) {
-            Edge e = L.poll();
-            Integer i = e.either();
-            Integer j = e.other(i);
+        apPerf = new ArrayList<Edge>(G.V() / 2);
+        boolean[] apareado = new boolean[G.V()];
+        for (int a = 0; a < k && apPerf.size() < G.V() / 2; a++) {
+            int e = orden[a];
+            int i = extremoI[e];
+            int j = extremoJ[e];
 
-            if (copiaV.contains(i) && copiaV.contains(j)) {
-                apPerf.add(e);
-                copiaV.remove(i);
-                copiaV.remove(j);
+            if (!apareado[i] && !apareado[j] && i != j) {
+                apPerf.add(lados[e]);
+                apareado[i] = true;
+                apareado[j] = true;
             }
         }
         return apPerf;
@@ -81,4 +77,4 @@ public class Greedy {
         Greedy greedy = new Greedy(G);
         StdOut.println(greedy.apPerf);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,187 @@
+/**
+ * Mejora local (2-opt) de un apareamiento perfecto del grafo de vertices
+ * de grado impar.
+ * Dados dos lados (a,b) y (c,d) del apareamiento, si
+ * costo(a,c) + costo(b,d) < costo(a,b) + costo(c,d) se cambian por
+ * (a,c) y (b,d). Se repite hasta que ningun cambio mejore o se acabe el
+ * tiempo disponible.
+ *
+ * Para cada vertice a solo se prueban como c sus vecinos mas cercanos,
+ * guardados en una lista de candidatos. Los vertices por revisar se
+ * guardan en una cola; al hacer un cambio se vuelven a encolar los
+ * cuatro extremos. Los costos se consultan al oraculo compartido.
+ *
+ * @author Adolfo Jeritson.
+ * @author Gianni Manilia.
+ */
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class MejoraApareamiento {
+    private static final double EPSILON = 1e-9;
+    private int              n;
+    private int[]            terminal;     // vertice de G asociado a cada vertice de G0
+    private OraculoCaminos   oraculo;
+    private int[]            pareja;
+    private Edge[]           ladoOriginal; // lado de M de cada vertice
+    private int[][]          candidatos;
+    private ArrayList<Edge>  apPerf;
+    private int              intercambios;
+    private double           costoInicial, costoFinal;
+
+    /**
+     * Mejora el apareamiento M.
+     *
+     * @param M            Apareamiento perfecto de G0.
+     * @param terminales   terminales.get(i) es el vertice de G del vertice
+     *                     i de G0.
+     * @param oraculo      Oraculo de caminos minimos sobre G.
+     * @param vecinos      Cantidad de candidatos por vertice.
+     * @param presupuesto  Tiempo maximo en segundos.
+     */
+    public MejoraApareamiento(ArrayList<Edge> M, ArrayList<Integer> terminales,
+                              OraculoCaminos oraculo, int vecinos, double presupuesto) {
+        long limite = System.nanoTime() + (long) (presupuesto * 1e9);
+        this.oraculo = oraculo;
+        n = terminales.size();
+        terminal = new int[n];
+        for (int i = 0; i < n; i++)
+            terminal[i] = terminales.get(i);
+
+        pareja = new int[n];
+        ladoOriginal = new Edge[n];
+        Arrays.fill(pareja, -1);
+        for (Edge e : M) {
+            int a = e.either();
+            int b = e.other(a);
+            pareja[a] = b;
+            pareja[b] = a;
+            ladoOriginal[a] = ladoOriginal[b] = e;
+            costoInicial += e.weight();
+        }
+
+        calcularCandidatos(Math.min(vecinos, n - 1));
+        mejorar(limite);
+
+        // Los pares que no cambiaron conservan su lado y su camino
+        apPerf = new ArrayList<Edge>(n / 2);
+        for (int a = 0; a < n; a++) {
+            int b = pareja[a];
+            if (b < a) continue;
+            Edge e = ladoOriginal[a];
+            if (e != null && e.other(a) == b) {
+                apPerf.add(e);
+            } else {
+                Edge lado = new Edge(a, b, costo(a, b));
+                lado.asociarLado(oraculo.path(terminal[a], terminal[b]));
+                apPerf.add(lado);
+            }
+            costoFinal += apPerf.get(apPerf.size() - 1).weight();
+        }
+    }
+
+    private double costo(int a, int b) {
+        return oraculo.dist(terminal[a], terminal[b]);
+    }
+
+    // Los vecinos mas cercanos de cada vertice, por insercion en una lista corta
+    private void calcularCandidatos(int k) {
+        candidatos = new int[n][k];
+        double[] dist = new double[k];
+        for (int a = 0; a < n; a++) {
+            int[] lista = candidatos[a];
+            int tam = 0;
+            for (int c = 0; c < n; c++) {
+                if (c == a) continue;
+                double d = costo(a, c);
+                if (tam == k && d >= dist[k - 1]) continue;
+                int i = (tam < k) ? tam++ : k - 1;
+                while (i > 0 && dist[i - 1] > d) {
+                    dist[i] = dist[i - 1];
+                    lista[i] = lista[i - 1];
+                    i--;
+                }
+                dist[i] = d;
+                lista[i] = c;
+            }
+        }
+    }
+
+    // Aplica cambios mientras mejoren o haya tiempo
+    private void mejorar(long limite) {
+        int[] cola = new int[n];
+        boolean[] enCola = new boolean[n];
+        int frente = 0, tam = 0;
+        for (int a = 0; a < n; a++) {
+            if (pareja[a] != -1) {
+                cola[tam++] = a;
+                enCola[a] = true;
+            }
+        }
+        while (tam > 0 && System.nanoTime() < limite) {
+            int a = cola[frente];
+            frente = (frente + 1 == n) ? 0 : frente + 1;
+            tam--;
+            enCola[a] = false;
+
+            int b = pareja[a];
+            double ab = costo(a, b);
+            for (int c : candidatos[a]) {
+                int d = pareja[c];
+                if (c == b || d == -1) continue;
+                double delta = ab + costo(c, d) - costo(a, c) - costo(b, d);
+                if (delta > EPSILON) {
+                    pareja[a] = c; pareja[c] = a;
+                    pareja[b] = d; pareja[d] = b;
+                    intercambios++;
+                    int[] extremos = {a, b, c, d};
+                    for (int x : extremos) {
+                        if (!enCola[x]) {
+                            int fin = frente + tam;
+                            cola[(fin >= n) ? fin - n : fin] = x;
+                            tam++;
+                            enCola[x] = true;
+                        }
+                    }
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Retorna el apareamiento mejorado.
+     *
+     * @return Lista con los lados del apareamiento.
+     */
+    public ArrayList<Edge> apareamiento() {
+        return apPerf;
+    }
+
+    /**
+     * Retorna la cantidad de cambios aplicados.
+     *
+     * @return cantidad de cambios.
+     */
+    public int intercambios() {
+        return intercambios;
+    }
+
+    /**
+     * Retorna el costo del apareamiento recibido.
+     *
+     * @return costo inicial.
+     */
+    public double costoInicial() {
+        return costoInicial;
+    }
+
+    /**
+     * Retorna el costo del apareamiento mejorado.
+     *
+     * @return costo final.
+     */
+    public double costo() {
+        return costoFinal;
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * Oraculo de caminos de costo minimo sobre un grafo fijo.
+ * Se construye una sola vez por instancia y se comparte entre la fase
+ * de conexion de componentes y la fase de apareamiento de SolverRPP.
+ *
+ * La informacion se calcula de forma perezosa: con Floyd la matriz de
+ * FloydPrimitivo se construye en la primera consulta; con Dijkstra se
+ * recorre el grafo desde un vertice la primera vez que se consulta y el
+ * arbol resultante se guarda para las siguientes consultas. El tiempo invertido en
+ * construir se acumula aparte del resto del algoritmo.
+ *
+ * @author Adolfo Jeritson.
+ * @author Gianni Manilia.
+ */
+import java.util.ArrayList;
+
+public class OraculoCaminos {
+    private EdgeWeightedGraph    G;
+    private boolean              usarFloyd;
+    private FloydPrimitivo       floyd;
+    private DijkstraTerminales[] arboles;   // arboles[s] = caminos desde s
+    private long                 tiempoConstruccion = 0;
+
+    /**
+     * Crea el oraculo sin calcular ningun camino todavia.
+     *
+     * @param G          Grafo para buscar caminos.
+     * @param usarFloyd  true para usar la matriz de Floyd-Warshall,
+     *                   false para usar Dijkstra desde cada fuente.
+     */
+    public OraculoCaminos(EdgeWeightedGraph G, boolean usarFloyd) {
+        this.G = G;
+        this.usarFloyd = usarFloyd;
+        if (!usarFloyd)
+            arboles = new DijkstraTerminales[G.V()];
+    }
+
+    /**
+     * Indica si el oraculo usa la matriz de Floyd-Warshall.
+     *
+     * @return true si usa Floyd, false si usa Dijkstra.
+     */
+    public boolean usaFloyd() {
+        return usarFloyd;
+    }
+
+    // Construye la matriz de Floyd si aun no existe
+    private FloydPrimitivo floyd() {
+        if (floyd == null) {
+            long inicio = System.currentTimeMillis();
+            floyd = new FloydPrimitivo(G);
+            tiempoConstruccion += System.currentTimeMillis() - inicio;
+        }
+        return floyd;
+    }
+
+    // Recorre el grafo desde s si aun no se ha hecho
+    private DijkstraTerminales arbol(int s) {
+        if (arboles[s] == null) {
+            long inicio = System.currentTimeMillis();
+            arboles[s] = new DijkstraTerminales(G, s);
+            tiempoConstruccion += System.currentTimeMillis() - inicio;
+        }
+        return arboles[s];
+    }
+
+    /**
+     * Recorre el grafo desde un conjunto de fuentes a la vez.
+     * El resultado no se guarda, ya que depende del conjunto completo.
+     *
+     * @param fuentes  Vertices fuente.
+     *
+     * @return Caminos de costo minimo desde las fuentes.
+     */
+    public DijkstraTerminales desde(Iterable<Integer> fuentes) {
+        long inicio = System.currentTimeMillis();
+        DijkstraTerminales dijkstra = new DijkstraTerminales(G, fuentes);
+        tiempoConstruccion += System.currentTimeMillis() - inicio;
+        return dijkstra;
+    }
+
+    /**
+     * Retorna el costo del camino minimo entre s y t.
+     *
+     * @param s  Nodo del grafo.
+     * @param t  Nodo del grafo.
+     *
+     * @return costo del camino minimo, Double.MAX_VALUE si no existe.
+     */
+    public double dist(int s, int t) {
+        if (usarFloyd)
+            return floyd().dist(s, t);
+        return arbol(s).dist(t);
+    }
+
+    /**
+     * Retorna el camino de costo minimo entre s y t.
+     * Con Floyd la lista y sus lados son nuevos en cada llamada.
+     *
+     * @param s  Nodo del grafo.
+     * @param t  Nodo del grafo.
+     *
+     * @return Lista con los lados del camino, null si no hay camino.
+     */
+    public ArrayList<Edge> path(int s, int t) {
+        if (usarFloyd)
+            return floyd().path(s, t);
+        return arbol(s).path(t);
+    }
+
+    /**
+     * Retorna el tiempo total invertido en construir caminos.
+     *
+     * @return tiempo en segundos.
+     */
+    public double tiempoConstruccion() {
+        return tiempoConstruccion / 1000.0;
+    }
+}
@@ -1,10 +1,17 @@
 /**
  * Algoritmo Heuristico para obtener solucion del problema RPP.
  *
- * Ejecucion: java SolverRPP [-g] [-s] <instancia.txt>
- * Solo admite 2 argumentos, se debe elegir entre:
+ * Ejecucion: java SolverRPP [-f] [-g] [-s] [-b] <instancia.txt>
+ * Se debe elegir entre:
  *      -g => Usar algoritmo tipo greedy para apareamiento perfecto.
  *      -s => Usar algoritmo vertex-scan para apareamiento perfecto.
+ *      -b => Usar algoritmo de flores (blossom) para el apareamiento
+ *            perfecto de costo minimo exacto.
+ * Opcionalmente:
+ *      -2 => Mejorar el apareamiento con intercambios 2-opt entre pares
+ *            de lados, durante a lo sumo PRESUPUESTO_2OPT segundos.
+ *      -f => Usar Floyd-Warshall (matriz V x V) para los caminos de costo
+ *            minimo en lugar de Dijkstra desde los vertices terminales.
  * El archivo de instancia debe terminar en .txt para que el programa
  * lo reconozca y lo pueda leer.
  *
@@ -15,8 +22,27 @@ import java.util.LinkedHashSet;
 
 public class SolverRPP {
 	public EdgeWeightedGraph G, Gr;
+	private static final int    VECINOS_2OPT = 10;
+	private static final double PRESUPUESTO_2OPT = 1.0;
+
+	private boolean usarFloyd;
+	private boolean mejorar;
+	private ArrayList<Integer> impares;
+	private OraculoCaminos oraculo;
+	private double costoApareamiento = -1;
+	private long tiempoApareamiento;
 	
 	public SolverRPP(In in, String apcm) {
+		this(in, apcm, false);
+	}
+
+	public SolverRPP(In in, String apcm, boolean usarFloyd) {
+		this(in, apcm, usarFloyd, false);
+	}
+
+	public SolverRPP(In in, String apcm, boolean usarFloyd, boolean mejorar) {
+		this.usarFloyd = usarFloyd;
+		this.mejorar = mejorar;
 		in.readLine();                      // Nombre
 		in.readLine();                      // Componentes
 		in.readString();                    // Vertices 
@@ -77,6 +103,8 @@ public class SolverRPP {
 	 */
 	public void SolveRPP(String apcm) {
 		long startTime = System.currentTimeMillis();
+		// Oraculo de caminos minimos sobre G, compartido por ambas fases
+		oraculo = new OraculoCaminos(G, usarFloyd);
 		// Crear copia de Gr, G'
 		EdgeWeightedGraph grCopia = new EdgeWeightedGraph(Gr);
 
@@ -126,6 +154,7 @@ public class SolverRPP {
 			completarGrafoImpar(G0, V0);
 
 			ArrayList<Edge> M = new ArrayList<Edge>();
+			long inicioAp = System.currentTimeMillis();
 			// Si se quiere usar Greedy
 			if (apcm.equals("-g")) {
 				Greedy greedy = new Greedy(G0);
@@ -136,6 +165,24 @@ public class SolverRPP {
 				VertexScan vertexScan = new VertexScan(G0);
 				M = vertexScan.apareamiento();
 			}
+			// Si se quiere el apareamiento exacto
+			else if (apcm.equals("-b")) {
+				Blossom blossom = new Blossom(G0);
+				M = blossom.apareamiento();
+			}
+			// Mejora local opcional del apareamiento
+			MejoraApareamiento mejora = null;
+			if (mejorar) {
+				mejora = new MejoraApareamiento(M, impares, oraculo, VECINOS_2OPT, PRESUPUESTO_2OPT);
+				M = mejora.apareamiento();
+			}
+			tiempoApareamiento = System.currentTimeMillis() - inicioAp;
+			costoApareamiento = 0.0;
+			for (Edge e : M)
+				costoApareamiento += e.weight();
+			if (mejora != null)
+				StdOut.println("2-opt: " + mejora.intercambios() + " intercambios, costo "
+					+ mejora.costoInicial() + " -> " + mejora.costo());
 
 			// Para cada lado (vi,vj) en M:
 			for (Edge camino : M) {
@@ -160,26 +207,34 @@ public class SolverRPP {
 		StdOut.println(costo);
 		// Tiempo
 		double total = (endTime - startTime) / 1000.0;
+		StdOut.println(oraculo.tiempoConstruccion() + " segs. (caminos minimos)");
+		if (costoApareamiento >= 0)
+			StdOut.println(tiempoApareamiento / 1000.0 + " segs. (apareamiento de costo " + costoApareamiento + ")");
 		StdOut.println(total + " segs.");
 
 	}
 
+	/**
+	 * Completa el grafo de vertices de grado impar.
+	 * Cada lado (i,j) de G0 tiene como costo el del camino minimo en G
+	 * entre los vertices impares correspondientes, y se le asocia dicho
+	 * camino. Los caminos se consultan al oraculo compartido.
+	 *
+	 * @param g0    Grafo a completar.
+	 * @param v0    Conjunto de vertices de grado impar.
+	 */
 	public void completarGrafoImpar(EdgeWeightedGraph g0, HashSet<Integer> v0) {
-		ArrayList<Integer> impares = new ArrayList<Integer>(v0);
-		Floyd floyd = new Floyd(G);
+		impares = new ArrayList<Integer>(v0);
 		ArrayList<Edge> caminoCM;
 
-		for (int nodo1 = 0; nodo1 < g0.V(); nodo1++) {
-			for (int nodo2 = 0; nodo2 < g0.V(); nodo2++) {
-				if (nodo1 != nodo2) {
-					if (!g0.containsEdge(nodo1, nodo2)) {
-						double costo = floyd.dist(impares.get(nodo1), impares.get(nodo2));
-						Edge lado = new Edge(nodo1, nodo2, costo);
-						caminoCM = floyd.path(impares.get(nodo1), impares.get(nodo2));
-						lado.asociarLado(caminoCM);
-						g0.addEdge(lado);
-					}
-				}
+		// G0 es completo y no dirigido, basta con los pares nodo1 < nodo2.
+		for (int nodo1 = 0; nodo1 < g0.V() - 1; nodo1++) {
+			for (int nodo2 = nodo1 + 1; nodo2 < g0.V(); nodo2++) {
+				double costo = oraculo.dist(impares.get(nodo1), impares.get(nodo2));
+				Edge lado = new Edge(nodo1, nodo2, costo);
+				caminoCM = oraculo.path(impares.get(nodo1), impares.get(nodo2));
+				lado.asociarLado(caminoCM);
+				g0.addEdge(lado);
 			}
 		}
 	}
@@ -191,8 +246,47 @@ public class SolverRPP {
 	 * @param comps Lista con las componentes conexas.
 	 */
 	public void completarGrafoCompCo(EdgeWeightedGraph gt, HashSet<HashSet<Integer>> comps) {
+		if (oraculo.usaFloyd()) {
+			completarGrafoCompCoFloyd(gt, comps);
+			return;
+		}
+		ArrayList<HashSet<Integer>> componentes = new ArrayList<HashSet<Integer>>(comps);
+		Edge ladoMin;
+		ArrayList<Edge> caminoCM;
+
+		// Un Dijkstra con multiples fuentes por componente: todos sus
+		// vertices parten con costo cero, asi dist(j) es el costo minimo
+		// desde la componente hasta j.
+		for (int comp1 = 0; comp1 < gt.V() - 1; comp1++) {
+			DijkstraTerminales dijkstra = oraculo.desde(componentes.get(comp1));
+			for (int comp2 = comp1 + 1; comp2 < gt.V(); comp2++) {
+				StdOut.println("Conectando componente #"+comp1+" con componente #"+comp2);
+				int jmin = 0;
+				double costoMin = Double.POSITIVE_INFINITY;
+				for (Integer j : componentes.get(comp2)) {
+					double costoActual = dijkstra.dist(j);
+					if (costoActual < costoMin) {
+						costoMin = costoActual;
+						jmin = j;
+					}
+				}
+				ladoMin = new Edge(comp1, comp2, costoMin);
+				caminoCM = dijkstra.path(jmin);
+				ladoMin.asociarLado(caminoCM);
+				gt.addEdge(ladoMin);
+			}
+		}
+	}
+
+	/**
+	 * Completa un grafo cuyos nodos son componentes conexas, consultando
+	 * al oraculo la distancia entre cada par de vertices.
+	 *
+	 * @param gt    Grafo a completar.
+	 * @param comps Lista con las componentes conexas.
+	 */
+	public void completarGrafoCompCoFloyd(EdgeWeightedGraph gt, HashSet<HashSet<Integer>> comps) {
         ArrayList<HashSet<Integer>> componentes = new ArrayList(comps);
-        Floyd floyd = new Floyd(G);
         Edge ladoMin;
         ArrayList<Edge> caminoCM;
 
@@ -206,7 +300,7 @@ public class SolverRPP {
                         double costoMin = Double.POSITIVE_INFINITY;
                         for (Integer i : componentes.get(comp1)) {
                             for (Integer j : componentes.get(comp2)) {
-                                double costoActual = floyd.dist(i, j);
+                                double costoActual = oraculo.dist(i, j);
                                 if (costoActual < costoMin) {
                                     costoMin = costoActual;
                                     imin = i;
@@ -215,7 +309,7 @@ public class SolverRPP {
                             }
                         }
                         ladoMin = new Edge(comp1, comp2, costoMin);
-                        caminoCM = floyd.path(imin, jmin);
+                        caminoCM = oraculo.path(imin, jmin);
                         ladoMin.asociarLado(caminoCM);
                         gt.addEdge(ladoMin);
                     }
@@ -226,7 +320,7 @@ public class SolverRPP {
 
 	/**
 	 * Verifica si el grafo dado es conexo.
-	 * Se calculan las componentes conexas, si tiene 1 sola componente,
+	 * Se etiquetan las componentes conexas, si tiene 1 sola componente,
 	 * el grafo es conexo.
 	 *
 	 * @param G grafo.
@@ -234,10 +328,7 @@ public class SolverRPP {
 	 * @return true si es conexo, false en caso contrario.
 	 */
 	public boolean esGrafoConexo(EdgeWeightedGraph G) {
-		if (G.getComponentesConexas().size() == 1)
-			return true;
-		else
-			return false;
+		return EdgeWeightedGraph.numComponentes(G.getIdComponentes()) == 1;
 	}
 
 	/**
@@ -257,7 +348,23 @@ public class SolverRPP {
 	}
 
 	public static void main(String[] args) {
-		In in = new In(args[1]);
-		SolverRPP proyecto = new SolverRPP(in, args[0]);
+		boolean usarFloyd = false;
+		boolean mejorar = false;
+		String apcm = null;
+		for (int i = 0; i < args.length - 1; i++) {
+			if (args[i].equals("-f"))
+				usarFloyd = true;
+			else if (args[i].equals("-2"))
+				mejorar = true;
+			else
+				apcm = args[i];
+		}
+		if (args.length == 0 || apcm == null
+				|| !(apcm.equals("-g") || apcm.equals("-s") || apcm.equals("-b"))) {
+			StdOut.println("Uso: java SolverRPP [-f] [-2] -g|-s|-b <instancia>");
+			return;
+		}
+		In in = new In(args[args.length - 1]);
+		SolverRPP proyecto = new SolverRPP(in, apcm, usarFloyd, mejorar);
 	}
 }
\ No newline at end of file
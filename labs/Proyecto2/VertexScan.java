@@ -1,79 +1,115 @@
 import java.util.ArrayList;
 
+/**
+ * Algoritmo vertex-scan para obtener un apareamiento perfecto.
+ * Se toma el menor vertice sin aparear, se aparea con el extremo de su
+ * lado mas barato hacia un vertice sin aparear, y se repite.
+ *
+ * Los lados se guardan en una matriz V x V con el indice del lado mas
+ * barato entre cada par, y su costo en otra matriz. Los vertices sin
+ * aparear se guardan en un arreglo del que se eliminan intercambiando
+ * con el ultimo, asi cada busqueda revisa solo la fila del vertice
+ * escogido y cuesta O(V). Entre lados de igual costo se escoge el que
+ * aparece primero en G.edges(), igual que al recorrer la lista de lados.
+ */
 public class VertexScan {
 
 	private EdgeWeightedGraph G;
-	private ArrayList<Integer> vertices;
-	private ArrayList<Edge> lados;
+	private int n;
+	private Edge[] lados;
+	private double[] costo;		// costo[i*n + j] = costo del lado mas barato entre i y j
+	private int[] lado;			// lado[i*n + j] = indice de ese lado, -1 si no hay
+	private int[] vertices;		// vertices del grafo, en orden creciente
+	private int nVertices;
 
 	public VertexScan(EdgeWeightedGraph G) {
 		// Inicializar grafo
 		this.G = G;
+		n = G.V();
 		// Inicializar lista de vértices
-		vertices = new ArrayList<>();
-		for (int i=0; i<G.V(); i++) {
+		vertices = new int[n];
+		for (int i=0; i<n; i++) {
 			if (G.nodoPertenece(i))
-				vertices.add(i);
+				vertices[nVertices++] = i;
+		}
+		// Inicializar matrices de lados
+		ArrayList<Edge> Ep = G.edges();
+		lados = Ep.toArray(new Edge[Ep.size()]);
+		costo = new double[n * n];
+		lado = new int[n * n];
+		java.util.Arrays.fill(lado, -1);
+		for (int k=0; k<lados.length; k++) {
+			int i = lados[k].either();
+			int j = lados[k].other(i);
+			int p = i * n + j;
+			if (lado[p] == -1 || lados[k].weight() < costo[p]) {
+				costo[p] = costo[j * n + i] = lados[k].weight();
+				lado[p] = lado[j * n + i] = k;
+			}
 		}
-		// Inicializar lista de lados
-		lados = G.edges();
 	}
 
 	public ArrayList<Edge> apareamiento() {
 		ArrayList<Edge> M = new ArrayList<>();
-		ArrayList<Integer> Vp = vertices;
-		ArrayList<Edge> Ep = lados;
-		ArrayList<Edge> eliminar;
-		int vertice, posicion;
-		Edge ladoMenor;
-		int i,j;
-
-		while (!Vp.isEmpty()) {
-			eliminar = new ArrayList<>();
-			// Escoger un vértice de Vp
-			vertice = Vp.get(0);
-			ladoMenor =  new Edge(vertice,vertice,Double.POSITIVE_INFINITY);
+		// Vp con los vértices sin aparear y la posicion de cada uno, -1 si ya no esta
+		int[] Vp = new int[nVertices];
+		int[] posicion = new int[n];
+		java.util.Arrays.fill(posicion, -1);
+		for (int k=0; k<nVertices; k++) {
+			Vp[k] = vertices[k];
+			posicion[vertices[k]] = k;
+		}
+		int tam = nVertices;
+		int siguiente = 0;
+		int vertice, menor, i, j;
+		double costoMenor;
+
+		while (tam > 0) {
+			// Escoger el menor vértice de Vp
+			while (posicion[vertices[siguiente]] == -1)
+				siguiente++;
+			vertice = vertices[siguiente];
 			// Escoger el lado (i,j) de menor costo
-			for (Edge e : Ep) {
-				if (e.either()==vertice || e.other((e.either()))==vertice) {
-					if (e.weight()<ladoMenor.weight())
-						ladoMenor = e;
-					eliminar.add(e);
-				}	
+			int fila = vertice * n;
+			menor = -1;
+			costoMenor = Double.POSITIVE_INFINITY;
+			for (int k=0; k<tam; k++) {
+				int p = fila + Vp[k];
+				int e = lado[p];
+				if (e == -1) continue;
+				if (menor == -1 || costo[p] < costoMenor || (costo[p] == costoMenor && e < menor)) {
+					menor = e;
+					costoMenor = costo[p];
+				}
+			}
+			if (menor == -1) {
+				// No quedan lados desde vertice
+				M.add(new Edge(vertice,vertice,Double.POSITIVE_INFINITY));
+				tam = eliminar(Vp, posicion, tam, vertice);
+				continue;
 			}
 			// Agregar (i,j) a M
-			M.add(ladoMenor);
+			M.add(lados[menor]);
 			// Eliminar los vértices i y j de Vp
-			i = ladoMenor.either();
-			j = ladoMenor.other(i);
-			// Eliminar i de Vp si existe
-			if (Vp.contains(i)) {
-				posicion = Vp.indexOf(i);
-				Vp.remove(posicion);
-			}
-			// Eliminar j de Vp si existe
-			if (Vp.contains(j)) {
-				posicion = Vp.indexOf(j);
-				Vp.remove(posicion);
-			}			
-			// Buscar todos los lados que tengan como adyacente a j
-			for (Edge e : Ep) {
-				if (e.either()==j) {
-					if (e.other(j)!=i)
-						eliminar.add(e);
-				}
-				else if (e.other((e.either()))==j) {
-					if (e.either()!=i)
-						eliminar.add(e);
-				}					
-			}
-			// Eliminar de Ep todos los lados que tengan como adyacentes a i o j
-			for (int k=0; k<eliminar.size(); k++)
-				Ep.remove(eliminar.get(k));
+			i = lados[menor].either();
+			j = lados[menor].other(i);
+			tam = eliminar(Vp, posicion, tam, i);
+			if (j != i)
+				tam = eliminar(Vp, posicion, tam, j);
 		}
 		return M;
 	}
 
+	// Elimina v de Vp cambiandolo por el ultimo; retorna el nuevo tamaño
+	private static int eliminar(int[] Vp, int[] posicion, int tam, int v) {
+		int k = posicion[v];
+		int ultimo = Vp[tam - 1];
+		Vp[k] = ultimo;
+		posicion[ultimo] = k;
+		posicion[v] = -1;
+		return tam - 1;
+	}
+
 	public static void main(String[] args) {
 		In in = new In(args[0]);
 		in.readLine();                      // Nombre